@@ -5,12 +5,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
+import toolyverse.io.toolyverse.domain.toggle.client.ToggleClientProperties;
 
 import java.util.TimeZone;
 
@@ -20,10 +22,11 @@ import java.util.TimeZone;
 //
 @EnableScheduling
 @EnableKafka
+@EnableFeignClients
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableAsync
 @EnableCaching
-@EnableConfigurationProperties
+@EnableConfigurationProperties(ToggleClientProperties.class)
 //
 @Slf4j
 @Component
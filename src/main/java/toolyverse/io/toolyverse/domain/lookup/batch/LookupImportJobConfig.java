@@ -0,0 +1,190 @@
+package toolyverse.io.toolyverse.domain.lookup.batch;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.batch.item.support.builder.SynchronizedItemStreamReaderBuilder;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+import toolyverse.io.toolyverse.domain.lookup.model.request.CreateLookupCommandRequest;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Bulk lookup import from CSV ({@code code,parentCode,description,isActive,displayOrder,translations},
+ * header row required, translations as a JSON object).
+ * <p>
+ * Groups are imported first in a single-threaded step, items afterwards in a multi-threaded one. Reader
+ * state is not saved, so a restarted step reads the file from the top; the writer's
+ * {@code INSERT ... WHERE NOT EXISTS} makes that safe. Groups must stay single-threaded: their NULL
+ * parent code is not covered by the unique constraint, so concurrent chunks could insert the same group twice.
+ */
+@Configuration
+public class LookupImportJobConfig {
+
+    public static final String JOB_NAME = "lookupImportJob";
+    public static final String PARAM_FILE_PATH = "filePath";
+    public static final String PARAM_REQUESTED_BY = "requestedBy";
+    public static final String PARAM_REQUESTED_AT = "requestedAt";
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int SKIP_LIMIT = 1_000;
+    private static final int ITEM_STEP_THREADS = 4;
+
+    private static final String[] CSV_COLUMNS = {"code", "parentCode", "description", "isActive", "displayOrder", "translations"};
+    private static final TypeReference<Map<String, Object>> TRANSLATIONS_TYPE = new TypeReference<>() {
+    };
+
+    // <=> is MySQL's NULL-safe equality, so top-level groups are de-duplicated too. Timestamps are bound
+    // from the application clock, like the ones JPA auditing writes, so delta sync can compare them.
+    private static final String INSERT_SQL = """
+            INSERT INTO lookups (code, search_code, description, parent_code, is_active, display_order, translations,
+                                 created_at, updated_at, created_by, updated_by)
+            SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
+            FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM lookups l WHERE l.code = ? AND l.parent_code <=> ?)
+            """;
+
+    @Bean
+    public Job lookupImportJob(JobRepository jobRepository, Step lookupImportGroupsStep, Step lookupImportItemsStep,
+                               LookupImportListener lookupImportListener) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(lookupImportListener)
+                .start(lookupImportGroupsStep)
+                .next(lookupImportItemsStep)
+                .build();
+    }
+
+    @Bean
+    public Step lookupImportGroupsStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                       SynchronizedItemStreamReader<CreateLookupCommandRequest> lookupImportReader,
+                                       JdbcBatchItemWriter<LookupImportRow> lookupImportWriter,
+                                       Validator validator, JdbcTemplate jdbcTemplate) {
+        LookupImportProcessor processor = new LookupImportProcessor(true, validator, jdbcTemplate);
+        return new StepBuilder("lookupImportGroupsStep", jobRepository)
+                .<CreateLookupCommandRequest, LookupImportRow>chunk(CHUNK_SIZE, transactionManager)
+                .reader(lookupImportReader)
+                .processor(processor)
+                .writer(lookupImportWriter)
+                .listener(processor)
+                .faultTolerant()
+                .skip(ValidationException.class)
+                .skip(FlatFileParseException.class)
+                .skipLimit(SKIP_LIMIT)
+                .build();
+    }
+
+    @Bean
+    public Step lookupImportItemsStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                      SynchronizedItemStreamReader<CreateLookupCommandRequest> lookupImportReader,
+                                      JdbcBatchItemWriter<LookupImportRow> lookupImportWriter,
+                                      Validator validator, JdbcTemplate jdbcTemplate) {
+        LookupImportProcessor processor = new LookupImportProcessor(false, validator, jdbcTemplate);
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("lookup-import-");
+        taskExecutor.setConcurrencyLimit(ITEM_STEP_THREADS);
+
+        return new StepBuilder("lookupImportItemsStep", jobRepository)
+                .<CreateLookupCommandRequest, LookupImportRow>chunk(CHUNK_SIZE, transactionManager)
+                .reader(lookupImportReader)
+                .processor(processor)
+                .writer(lookupImportWriter)
+                .listener(processor)
+                .taskExecutor(taskExecutor)
+                .faultTolerant()
+                .skip(ValidationException.class)
+                .skip(FlatFileParseException.class)
+                // Same item listed twice in the file and inserted by two chunks at once.
+                .skip(DuplicateKeyException.class)
+                .skipLimit(SKIP_LIMIT)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public SynchronizedItemStreamReader<CreateLookupCommandRequest> lookupImportReader(
+            @Value("#{jobParameters['" + PARAM_FILE_PATH + "']}") String filePath, ObjectMapper objectMapper) {
+        FlatFileItemReader<CreateLookupCommandRequest> reader = new FlatFileItemReaderBuilder<CreateLookupCommandRequest>()
+                .name("lookupImportReader")
+                .resource(new FileSystemResource(filePath))
+                .encoding("UTF-8")
+                .linesToSkip(1)
+                .saveState(false)
+                .delimited()
+                .names(CSV_COLUMNS)
+                .fieldSetMapper(fieldSet -> toRequest(fieldSet, objectMapper))
+                .build();
+        return new SynchronizedItemStreamReaderBuilder<CreateLookupCommandRequest>()
+                .delegate(reader)
+                .build();
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<LookupImportRow> lookupImportWriter(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<LookupImportRow>()
+                .dataSource(dataSource)
+                .sql(INSERT_SQL)
+                .itemPreparedStatementSetter((row, ps) -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    ps.setString(1, row.code());
+                    ps.setString(2, row.searchCode());
+                    ps.setString(3, row.description());
+                    ps.setString(4, row.parentCode());
+                    ps.setBoolean(5, row.isActive());
+                    if (row.displayOrder() != null) {
+                        ps.setInt(6, row.displayOrder());
+                    } else {
+                        ps.setNull(6, Types.INTEGER);
+                    }
+                    ps.setString(7, row.translations());
+                    ps.setObject(8, now);
+                    ps.setObject(9, now);
+                    ps.setString(10, row.createdBy());
+                    ps.setString(11, row.createdBy());
+                    ps.setString(12, row.code());
+                    ps.setString(13, row.parentCode());
+                })
+                // Rows that already exist insert nothing; that is expected, not an error.
+                .assertUpdates(false)
+                .build();
+    }
+
+    // --- Private Helper Methods ---
+
+    private static CreateLookupCommandRequest toRequest(FieldSet fieldSet, ObjectMapper objectMapper) throws Exception {
+        String isActive = fieldSet.readString("isActive");
+        String displayOrder = fieldSet.readString("displayOrder");
+        String translations = fieldSet.readString("translations");
+        return CreateLookupCommandRequest.builder()
+                .code(fieldSet.readString("code"))
+                .parentCode(fieldSet.readString("parentCode"))
+                .description(fieldSet.readString("description"))
+                .isActive(!StringUtils.hasText(isActive) || Boolean.parseBoolean(isActive))
+                .displayOrder(StringUtils.hasText(displayOrder) ? Integer.valueOf(displayOrder) : null)
+                .translations(StringUtils.hasText(translations) ? objectMapper.readValue(translations, TRANSLATIONS_TYPE) : null)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package toolyverse.io.toolyverse.domain.lookup.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts {@link LookupImportJobConfig#JOB_NAME} in the background and returns immediately.
+ * <p>
+ * Kept as a plain component instead of a second {@code JobLauncher} bean so the synchronous launcher
+ * auto-configured by Spring Boot stays the only one injected by type.
+ */
+@Component
+public class LookupImportJobLauncher {
+
+    private final Job lookupImportJob;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public LookupImportJobLauncher(JobRepository jobRepository,
+                                   @Qualifier(LookupImportJobConfig.JOB_NAME) Job lookupImportJob) throws Exception {
+        this.lookupImportJob = lookupImportJob;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("lookup-import-job-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * Starts a new run, or restarts the failed or stopped run that used the same parameters.
+     */
+    public JobExecution run(JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
+            JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+        return jobLauncher.run(lookupImportJob, jobParameters);
+    }
+}
@@ -0,0 +1,33 @@
+package toolyverse.io.toolyverse.domain.lookup.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+
+/**
+ * Refreshes lookup caches and indexes once per import run instead of once per row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LookupImportListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long written = jobExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+        log.info("Lookup import {} finished with status {}, {} rows written",
+                jobExecution.getId(), jobExecution.getStatus(), written);
+        // Also on failure: chunks committed before it are already visible.
+        if (written > 0) {
+            eventPublisher.publishEvent(new LookupChangedEvent(LookupChangeType.BULK_IMPORTED, null));
+        }
+    }
+}
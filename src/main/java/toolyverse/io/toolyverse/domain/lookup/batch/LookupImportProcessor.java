@@ -0,0 +1,84 @@
+package toolyverse.io.toolyverse.domain.lookup.batch;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+import toolyverse.io.toolyverse.domain.lookup.model.request.CreateLookupCommandRequest;
+import toolyverse.io.toolyverse.domain.shared.entity.Translations;
+import toolyverse.io.toolyverse.infrastructure.util.TranslationsConverter;
+import toolyverse.io.toolyverse.infrastructure.util.TurkishCharConverter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates CSV rows with the same constraints as the create endpoint and turns them into insert rows.
+ * <p>
+ * One instance serves the groups step and one the items step; each filters out the rows meant for the
+ * other. The items step also rejects rows whose parent group does not exist, using the group codes
+ * loaded when the step starts (after the groups step has committed).
+ */
+public class LookupImportProcessor implements ItemProcessor<CreateLookupCommandRequest, LookupImportRow>, StepExecutionListener {
+
+    private static final String GROUP_CODES_SQL =
+            "SELECT code FROM lookups WHERE parent_code IS NULL AND deleted_at IS NULL";
+
+    private final boolean groups;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TranslationsConverter translationsConverter = new TranslationsConverter();
+
+    private volatile Set<String> groupCodes = Set.of();
+    private volatile String requestedBy;
+
+    public LookupImportProcessor(boolean groups, Validator validator, JdbcTemplate jdbcTemplate) {
+        this.groups = groups;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        requestedBy = stepExecution.getJobParameters().getString(LookupImportJobConfig.PARAM_REQUESTED_BY);
+        if (!groups) {
+            List<String> codes = jdbcTemplate.queryForList(GROUP_CODES_SQL, String.class);
+            groupCodes = Set.copyOf(new HashSet<>(codes));
+        }
+    }
+
+    @Override
+    public LookupImportRow process(CreateLookupCommandRequest request) {
+        String parentCode = StringUtils.hasText(request.getParentCode()) ? request.getParentCode() : null;
+        if (groups != (parentCode == null)) {
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateLookupCommandRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(String.format("Invalid lookup '%s': %s", request.getCode(),
+                    violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(" "))));
+        }
+        if (parentCode != null && !groupCodes.contains(parentCode)) {
+            throw new ValidationException(
+                    String.format("Parent lookup with code '%s' not found.", parentCode));
+        }
+
+        return new LookupImportRow(
+                request.getCode(),
+                TurkishCharConverter.toSearchKey(request.getCode()),
+                request.getDescription(),
+                parentCode,
+                request.getIsActive() == null || request.getIsActive(),
+                request.getDisplayOrder(),
+                translationsConverter.convertToDatabaseColumn(Translations.of(request.getTranslations())),
+                requestedBy
+        );
+    }
+}
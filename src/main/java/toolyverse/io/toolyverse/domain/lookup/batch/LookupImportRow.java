@@ -0,0 +1,16 @@
+package toolyverse.io.toolyverse.domain.lookup.batch;
+
+/**
+ * A validated CSV row ready for the JDBC writer; {@code translations} is already serialized JSON.
+ */
+public record LookupImportRow(
+        String code,
+        String searchCode,
+        String description,
+        String parentCode,
+        boolean isActive,
+        Integer displayOrder,
+        String translations,
+        String createdBy
+) {
+}
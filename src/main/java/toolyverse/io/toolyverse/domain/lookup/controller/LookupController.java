@@ -10,18 +10,32 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupChangesDto;
 import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupLabelDto;
+import toolyverse.io.toolyverse.domain.lookup.model.parameter.ExportLookupsUseCaseParam;
 import toolyverse.io.toolyverse.domain.lookup.model.parameter.UpdateLookupUseCaseParam;
 import toolyverse.io.toolyverse.domain.lookup.model.request.CreateLookupCommandRequest;
+import toolyverse.io.toolyverse.domain.lookup.model.request.GetLookupsByCodesRequest;
 import toolyverse.io.toolyverse.domain.lookup.model.request.LookupFilterRequest;
 import toolyverse.io.toolyverse.domain.lookup.model.request.UpdateLookupCommandRequest;
 import toolyverse.io.toolyverse.domain.lookup.service.usecase.*;
+import toolyverse.io.toolyverse.domain.shared.enumeration.ExportFormat;
+import toolyverse.io.toolyverse.domain.shared.enumeration.PaginationMode;
 import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
 import toolyverse.io.toolyverse.infrastructure.response.PageableResponse;
+import toolyverse.io.toolyverse.infrastructure.util.ContentETags;
 
 import java.util.List;
 import java.util.Map;
@@ -39,6 +53,12 @@ public class LookupController {
     private final GetAllLookupsUseCase getAllLookupsQuery;
     private final GetLookupsByParentIdUseCase getLookupsByParentIdQuery;
     private final GetAllLookupsWithMapUseCase getAllLookupsWithMapQuery;
+    private final CountLookupsUseCase countLookupsQuery;
+    private final ExportLookupsUseCase exportLookupsQuery;
+    private final GetLookupChangesUseCase getLookupChangesQuery;
+    private final GetLookupsByCodesUseCase getLookupsByCodesQuery;
+    private final GetAllLookupLabelsUseCase getAllLookupLabelsQuery;
+    private final ContentETags contentETags;
 
     // --- Controller Endpoints ---
 
@@ -91,14 +111,42 @@ public class LookupController {
         return ResponseEntity.ok(ApiResponseWrapper.success(lookup));
     }
 
-    @Operation(summary = "Get all lookups with filtering and pagination", description = "Retrieves a paginated list of lookups based on filter criteria.")
+    @Operation(summary = "Get lookups by a list of codes", description = "Resolves up to 500 codes in one call, e.g. ?codes=ACTIVE,PENDING_APPROVAL. Unknown codes are omitted from the result.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully resolved lookups.", content = @Content(schema = @Schema(implementation = LookupMapResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No codes or too many codes given.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponseWrapper<Map<String, LookupDto>>> getLookupsByCodes(
+            @ParameterObject @Valid GetLookupsByCodesRequest request) {
+        Map<String, LookupDto> lookups = getLookupsByCodesQuery.execute(request.getCodes());
+        return ResponseEntity.ok(ApiResponseWrapper.success(lookups));
+    }
+
+    @Operation(summary = "Get lookups by a list of codes (body)", description = "Same as GET /batch, for code lists too long for a query string.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully resolved lookups.", content = @Content(schema = @Schema(implementation = LookupMapResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No codes or too many codes given.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponseWrapper<Map<String, LookupDto>>> getLookupsByCodesWithBody(
+            @Valid @RequestBody GetLookupsByCodesRequest request) {
+        Map<String, LookupDto> lookups = getLookupsByCodesQuery.execute(request.getCodes());
+        return ResponseEntity.ok(ApiResponseWrapper.success(lookups));
+    }
+
+    @Operation(summary = "Get all lookups with filtering and pagination", description = "Retrieves a paginated list of lookups based on filter criteria. Use paginationMode=CURSOR with the returned nextCursor to walk deep pages, or SLICE to skip the total count.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of lookups.", content = @Content(schema = @Schema(implementation = LookupPageResponse.class)))
     })
     @GetMapping
     public ResponseEntity<ApiResponseWrapper<PageableResponse<LookupDto>>> getAllLookups(
             @ParameterObject @Valid LookupFilterRequest filter) {
-        Page<LookupDto> lookupsPage = getAllLookupsQuery.execute(filter);
+        Slice<LookupDto> lookupsPage = getAllLookupsQuery.execute(filter);
+        if (filter.getPaginationMode() == PaginationMode.SLICE && filter.isWithApproximateTotal()) {
+            Long approximateTotal = countLookupsQuery.execute(filter);
+            return ResponseEntity.ok(ApiResponseWrapper.successWithApproximateTotal(lookupsPage, approximateTotal));
+        }
         return ResponseEntity.ok(ApiResponseWrapper.success(lookupsPage));
     }
 
@@ -115,14 +163,72 @@ public class LookupController {
     }
 
 
-    @Operation(summary = "Get all lookups", description = "Retrieves all list of lookups.")
+    @Operation(summary = "Get all lookups", description = "Retrieves all list of lookups. The response carries a strong ETag derived from its content; send it back in If-None-Match to get 304 while nothing changed.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of lookups.", content = @Content(schema = @Schema(implementation = LookupAllResponse.class)))
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of lookups.", content = @Content(schema = @Schema(implementation = LookupAllResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag.")
     })
     @GetMapping("/all")
-    public ResponseEntity<ApiResponseWrapper<Map<String, List<LookupDto>>>> getAllLookupsWithoutPagination() {
+    public ResponseEntity<ApiResponseWrapper<Map<String, List<LookupDto>>>> getAllLookupsWithoutPagination(WebRequest webRequest) {
+        // Hashed from the map actually served, so a node still holding an older copy can never label it
+        // with a newer ETag.
         var lookupsPage = getAllLookupsWithMapQuery.execute();
-        return ResponseEntity.ok(ApiResponseWrapper.success(lookupsPage));
+        String eTag = contentETags.of("lookups-all", lookupsPage);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseWrapper.success(lookupsPage));
+    }
+
+    @Operation(summary = "Get all lookups as localized labels", description = "Like /all, but each lookup carries a single label in the Accept-Language language (falling back to the default language, then the description) instead of every translation. Supports If-None-Match like /all.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved localized lookups.", content = @Content(schema = @Schema(implementation = LookupLabelAllResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag.")
+    })
+    @GetMapping("/all/localized")
+    public ResponseEntity<ApiResponseWrapper<Map<String, List<LookupLabelDto>>>> getAllLookupsLocalized(WebRequest webRequest) {
+        var lookupLabels = getAllLookupLabelsQuery.execute(LocaleContextHolder.getLocale());
+        String eTag = lookupLabels.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(ApiResponseWrapper.success(lookupLabels.labels()));
+    }
+
+    @Operation(summary = "Get lookup changes since a watermark", description = "Returns lookups created, updated or soft-deleted since the given watermark. Omit 'since' for a full snapshot, then pass the returned nextSince on each following call.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved lookup changes.", content = @Content(schema = @Schema(implementation = LookupChangesResponse.class)))
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponseWrapper<LookupChangesDto>> getLookupChanges(
+            @Parameter(description = "Watermark (epoch millis) returned by the previous call.", example = "1760781600000") @RequestParam(required = false) Long since) {
+        LookupChangesDto changes = getLookupChangesQuery.execute(since);
+        return ResponseEntity.ok(ApiResponseWrapper.success(changes));
+    }
+
+    @Operation(summary = "Export all lookups", description = "Streams every non-deleted lookup as NDJSON or CSV without loading the table into memory.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export stream started.")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLookups(
+            @Parameter(description = "Export format.", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream ->
+                exportLookupsQuery.execute(new ExportLookupsUseCaseParam(format, outputStream));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("lookups." + format.getFileExtension()).build().toString())
+                .body(body);
     }
 
     // --- OpenAPI Schema Helper Classes ---
@@ -140,6 +246,18 @@ public class LookupController {
     public static class LookupPageResponse extends ApiResponseWrapper<PageableResponse<LookupDto>> {
     }
 
+    @Schema(name = "LookupMapResponse", description = "API response containing lookups keyed by code.")
+    public static class LookupMapResponse extends ApiResponseWrapper<Map<String, LookupDto>> {
+    }
+
+    @Schema(name = "LookupChangesResponse", description = "API response containing lookup changes since a watermark.")
+    public static class LookupChangesResponse extends ApiResponseWrapper<LookupChangesDto> {
+    }
+
+    @Schema(name = "LookupLabelAllResponse", description = "API response containing localized lookup labels grouped by parent code.")
+    public static class LookupLabelAllResponse extends ApiResponseWrapper<Map<String, List<LookupLabelDto>>> {
+    }
+
     @Schema(name = "LookupAllResponse", description = "API response containing list of lookup objects.")
     public static class LookupAllResponse extends ApiResponseWrapper<Map<String, List<LookupDto>>> {
     }
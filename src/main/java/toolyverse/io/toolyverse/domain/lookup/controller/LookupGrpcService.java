@@ -0,0 +1,131 @@
+package toolyverse.io.toolyverse.domain.lookup.controller;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetAllLookupsAsListUseCase;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetLookupByCodeUseCase;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetLookupsByCodesUseCase;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetLookupsByParentIdUseCase;
+import toolyverse.io.toolyverse.grpc.lookup.v1.*;
+import toolyverse.io.toolyverse.infrastructure.exception.BusinessException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gRPC counterpart of {@link LookupController}'s read endpoints, backed by the same use cases.
+ */
+@Service
+@RequiredArgsConstructor
+public class LookupGrpcService extends LookupServiceGrpc.LookupServiceImplBase {
+
+    // Same limit as GET /api/v1/lookups/batch.
+    private static final int MAX_BATCH_CODES = 500;
+
+    private final GetLookupByCodeUseCase getLookupByCodeQuery;
+    private final GetLookupsByParentIdUseCase getLookupsByParentIdQuery;
+    private final GetLookupsByCodesUseCase getLookupsByCodesQuery;
+    private final GetAllLookupsAsListUseCase getAllLookupsAsListQuery;
+
+    @Override
+    public void getByCode(GetByCodeRequest request, StreamObserver<Lookup> responseObserver) {
+        try {
+            responseObserver.onNext(toProto(getLookupByCodeQuery.execute(request.getCode())));
+            responseObserver.onCompleted();
+        } catch (BusinessException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void getByParent(GetByParentRequest request, StreamObserver<LookupList> responseObserver) {
+        try {
+            List<LookupDto> children = getLookupsByParentIdQuery.execute(request.getParentCode());
+            LookupList.Builder response = LookupList.newBuilder();
+            children.forEach(child -> response.addLookups(toProto(child)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (BusinessException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void batchGet(BatchGetRequest request, StreamObserver<BatchGetResponse> responseObserver) {
+        if (request.getCodesCount() == 0 || request.getCodesCount() > MAX_BATCH_CODES) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Between 1 and " + MAX_BATCH_CODES + " codes must be requested.")
+                    .asRuntimeException());
+            return;
+        }
+
+        Map<String, LookupDto> lookups = getLookupsByCodesQuery.execute(request.getCodesList());
+        BatchGetResponse.Builder response = BatchGetResponse.newBuilder();
+        lookups.forEach((code, lookup) -> response.putLookups(code, toProto(lookup)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Emits lookups only while the transport is ready, so a slow client does not make the server
+     * buffer the whole catalog.
+     */
+    @Override
+    public void streamAll(StreamAllRequest request, StreamObserver<Lookup> responseObserver) {
+        ServerCallStreamObserver<Lookup> serverObserver = (ServerCallStreamObserver<Lookup>) responseObserver;
+        Iterator<LookupDto> lookups = getAllLookupsAsListQuery.execute().iterator();
+
+        // gRPC serializes onReady callbacks, so the iterator is never used concurrently.
+        serverObserver.setOnReadyHandler(new Runnable() {
+            private boolean completed;
+
+            @Override
+            public void run() {
+                while (!completed && !serverObserver.isCancelled() && serverObserver.isReady() && lookups.hasNext()) {
+                    serverObserver.onNext(toProto(lookups.next()));
+                }
+                if (!completed && !serverObserver.isCancelled() && !lookups.hasNext()) {
+                    completed = true;
+                    serverObserver.onCompleted();
+                }
+            }
+        });
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Lookup toProto(LookupDto lookup) {
+        Lookup.Builder builder = Lookup.newBuilder()
+                .setId(lookup.getId())
+                .setCode(lookup.getCode())
+                .setIsActive(Boolean.TRUE.equals(lookup.getIsActive()));
+        if (lookup.getDescription() != null) {
+            builder.setDescription(lookup.getDescription());
+        }
+        if (lookup.getParentCode() != null) {
+            builder.setParentCode(lookup.getParentCode());
+        }
+        if (lookup.getDisplayOrder() != null) {
+            builder.setDisplayOrder(lookup.getDisplayOrder());
+        }
+        if (lookup.getTranslations() != null) {
+            lookup.getTranslations().forEach((language, text) -> {
+                if (text != null) {
+                    builder.putTranslations(language, text.toString());
+                }
+            });
+        }
+        return builder.build();
+    }
+
+    private static Status toStatus(BusinessException e) {
+        Status status = e.getStatus() == HttpStatus.NOT_FOUND ? Status.NOT_FOUND : Status.INVALID_ARGUMENT;
+        return status.withDescription(e.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+package toolyverse.io.toolyverse.domain.lookup.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupImportStatusDto;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetLookupImportStatusUseCase;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.RestartLookupImportUseCase;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.StartLookupImportUseCase;
+import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
+
+@RestController
+@RequestMapping("/api/v1/admin/lookups/imports")
+@RequiredArgsConstructor
+@Tag(name = "Lookup Import", description = "Admin APIs for bulk importing lookups from CSV.")
+public class LookupImportController {
+
+    private final StartLookupImportUseCase startLookupImportCommand;
+    private final GetLookupImportStatusUseCase getLookupImportStatusQuery;
+    private final RestartLookupImportUseCase restartLookupImportCommand;
+
+    // --- Controller Endpoints ---
+
+    @Operation(summary = "Start a lookup import", description = "Uploads a CSV (code,parentCode,description,isActive,displayOrder,translations with a header row) and imports it in the background. Existing codes are left untouched.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Import started.", content = @Content(schema = @Schema(implementation = LookupImportStatusResponse.class)))
+    })
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponseWrapper<LookupImportStatusDto>> startImport(@RequestParam("file") MultipartFile file) {
+        LookupImportStatusDto status = startLookupImportCommand.execute(file);
+        return new ResponseEntity<>(ApiResponseWrapper.success(status), HttpStatus.ACCEPTED);
+    }
+
+    @Operation(summary = "Get import progress", description = "Returns the status and per-step counters of an import run.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import found.", content = @Content(schema = @Schema(implementation = LookupImportStatusResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Import not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @GetMapping("/{executionId}")
+    public ResponseEntity<ApiResponseWrapper<LookupImportStatusDto>> getImportStatus(
+            @Parameter(description = "Id of the import run.", required = true, example = "42") @PathVariable Long executionId) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(getLookupImportStatusQuery.execute(executionId)));
+    }
+
+    @Operation(summary = "Restart a failed import", description = "Restarts a failed or stopped import run with its original file.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Import restarted.", content = @Content(schema = @Schema(implementation = LookupImportStatusResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Import not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class))),
+            @ApiResponse(responseCode = "409", description = "Import is running or already completed.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PostMapping("/{executionId}/restart")
+    public ResponseEntity<ApiResponseWrapper<LookupImportStatusDto>> restartImport(
+            @Parameter(description = "Id of the import run to restart.", required = true, example = "42") @PathVariable Long executionId) {
+        LookupImportStatusDto status = restartLookupImportCommand.execute(executionId);
+        return new ResponseEntity<>(ApiResponseWrapper.success(status), HttpStatus.ACCEPTED);
+    }
+
+    // --- OpenAPI Schema Helper Classes ---
+
+    @Schema(name = "LookupImportStatusResponse", description = "API response containing the progress of a lookup import.")
+    public static class LookupImportStatusResponse extends ApiResponseWrapper<LookupImportStatusDto> {
+    }
+}
@@ -3,23 +3,29 @@ package toolyverse.io.toolyverse.domain.lookup.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Mutability;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.descriptor.java.Immutability;
 import toolyverse.io.toolyverse.domain.shared.entity.BaseEntity;
-import toolyverse.io.toolyverse.infrastructure.util.JsonConverter;
+import toolyverse.io.toolyverse.domain.shared.entity.Translations;
+import toolyverse.io.toolyverse.infrastructure.util.TranslationsConverter;
+import toolyverse.io.toolyverse.infrastructure.util.TurkishCharConverter;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 @Entity
 @Table(name = "lookups",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_lookup_parent_code", columnNames = {"parent_code", "code"})
+                @UniqueConstraint(name = Lookup.PARENT_CODE_UNIQUE_CONSTRAINT, columnNames = {"parent_code", "code"})
         },
         indexes = {
                 @Index(name = "idx_lookup_active", columnList = "is_active"),
-                @Index(name = "idx_lookup_hierarchy", columnList = "parent_code, display_order")
+                @Index(name = "idx_lookup_hierarchy", columnList = "parent_code, display_order"),
+                @Index(name = "idx_lookup_created_at", columnList = "created_at, id"),
+                @Index(name = "idx_lookup_search_code", columnList = "search_code"),
+                @Index(name = "idx_lookup_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_lookup_deleted_at", columnList = "deleted_at")
         })
 @Getter
 @Setter
@@ -29,6 +35,8 @@ import java.util.Objects;
 @SQLDelete(sql = "UPDATE lookups SET deleted_at = now() WHERE id = ?")
 public class Lookup extends BaseEntity {
 
+    public static final String PARENT_CODE_UNIQUE_CONSTRAINT = "uk_lookup_parent_code";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     public Long id;
@@ -36,6 +44,10 @@ public class Lookup extends BaseEntity {
     @Column(name = "code", nullable = false, length = 100)
     private String code;
 
+    // Normalized copy of code for searching, maintained on every write.
+    @Column(name = "search_code", length = 100)
+    private String searchCode;
+
     @Column(name = "description", length = 255)
     private String description;
 
@@ -50,9 +62,16 @@ public class Lookup extends BaseEntity {
     private Integer displayOrder;
 
     @Column(name = "translations", columnDefinition = "JSON")
-    @Convert(converter = JsonConverter.class)
+    @Convert(converter = TranslationsConverter.class)
+    @Mutability(Immutability.class) // replaced, never mutated in place; skips snapshot copies
     @Builder.Default
-    private Map<String, Object> translations = new HashMap<>();
+    private Translations translations = Translations.EMPTY;
+
+    @PrePersist
+    @PreUpdate
+    public void updateSearchCode() {
+        this.searchCode = TurkishCharConverter.toSearchKey(code);
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,8 @@
+package toolyverse.io.toolyverse.domain.lookup.enumeration;
+
+public enum LookupChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_IMPORTED
+}
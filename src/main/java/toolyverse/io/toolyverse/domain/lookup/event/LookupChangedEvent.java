@@ -0,0 +1,17 @@
+package toolyverse.io.toolyverse.domain.lookup.event;
+
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+
+/**
+ * Published by the lookup write use cases inside their transaction.
+ * Listeners react after commit, so {@code lookup} always reflects persisted state.
+ * <p>
+ * {@link LookupChangeType#BULK_IMPORTED} is published once after a batch import, outside any
+ * transaction, with a null {@code lookup}; listeners must drop their state rather than patch it.
+ */
+public record LookupChangedEvent(
+        LookupChangeType type,
+        LookupDto lookup
+) {
+}
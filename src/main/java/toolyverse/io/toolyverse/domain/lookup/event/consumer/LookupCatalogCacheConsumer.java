@@ -0,0 +1,154 @@
+package toolyverse.io.toolyverse.domain.lookup.event.consumer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetAllLookupsWithMapUseCase;
+import toolyverse.io.toolyverse.infrastructure.config.cache.CacheNames;
+import toolyverse.io.toolyverse.infrastructure.config.cache.RedisCacheConfig;
+import toolyverse.io.toolyverse.infrastructure.config.cache.TwoTierCache;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Keeps the cached all-lookups map in step with lookup writes by patching the single affected
+ * parent-code bucket instead of evicting the whole map.
+ * <p>
+ * The read-modify-write is guarded by a short Redis lock so concurrent writers on different nodes
+ * cannot overwrite each other's patch; the read under the lock goes to Redis, never to the local tier. If the lock is busy or anything goes wrong, the entry is
+ * evicted and the next reader reloads it.
+ */
+@Slf4j
+@Component
+public class LookupCatalogCacheConsumer {
+
+    private static final String LOCK_KEY = "lock:" + CacheNames.CACHE_ALL_LOOKUPS;
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final TypeReference<List<LookupDto>> LOOKUP_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public LookupCatalogCacheConsumer(@Qualifier(RedisCacheConfig.TWO_TIER_CACHE_MANAGER_FIVE_MINUTES) CacheManager cacheManager,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // fallbackExecution: bulk imports publish BULK_IMPORTED outside a transaction.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheNames.CACHE_ALL_LOOKUPS);
+        if (cache != null) {
+            patchOrEvict(cache, event);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void patchOrEvict(Cache cache, LookupChangedEvent event) {
+        if (event.type() == LookupChangeType.BULK_IMPORTED) {
+            cache.evict(SimpleKey.EMPTY);
+            return;
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, LOCK_TTL))) {
+            log.debug("Lookup catalog cache is being patched elsewhere, evicting instead");
+            cache.evict(SimpleKey.EMPTY);
+            return;
+        }
+
+        try {
+            Map<?, ?> cachedCatalog = readShared(cache);
+            if (cachedCatalog == null) {
+                // Nothing cached yet; the next reader loads the committed state.
+                return;
+            }
+            cache.put(SimpleKey.EMPTY, patch(cachedCatalog, event));
+        } catch (Exception e) {
+            log.warn("Failed to patch lookup catalog cache, evicting it: {}", e.getMessage());
+            cache.evict(SimpleKey.EMPTY);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    // The patch must start from what Redis holds: this node's L1 copy may predate another node's patch.
+    private Map<?, ?> readShared(Cache cache) {
+        if (!(cache instanceof TwoTierCache twoTierCache)) {
+            return cache.get(SimpleKey.EMPTY, Map.class);
+        }
+        Cache.ValueWrapper wrapper = twoTierCache.getRemote(SimpleKey.EMPTY);
+        return wrapper != null ? (Map<?, ?>) wrapper.get() : null;
+    }
+
+    private Map<String, List<LookupDto>> patch(Map<?, ?> cachedCatalog, LookupChangedEvent event) {
+        LookupDto lookup = event.lookup();
+        String bucketKey = lookup.getParentCode() != null ? lookup.getParentCode() : GetAllLookupsWithMapUseCase.ROOT_GROUP;
+
+        // Copy-on-write: the cached map may be shared with concurrent readers, only the touched bucket is rebuilt.
+        Map<String, List<LookupDto>> catalog = new HashMap<>(cachedCatalog.size() + 1);
+        cachedCatalog.forEach((key, bucket) -> catalog.put((String) key, toLookupDtos((List<?>) bucket)));
+
+        List<LookupDto> bucket = new ArrayList<>(catalog.getOrDefault(bucketKey, List.of()));
+        int existingIndex = indexOf(bucket, lookup.getId());
+
+        if (event.type() == LookupChangeType.DELETED) {
+            if (existingIndex >= 0) {
+                bucket.remove(existingIndex);
+            }
+        } else if (existingIndex >= 0) {
+            bucket.set(existingIndex, lookup);
+        } else {
+            bucket.add(lookup);
+        }
+
+        if (bucket.isEmpty()) {
+            catalog.remove(bucketKey);
+        } else {
+            catalog.put(bucketKey, bucket);
+        }
+        return catalog;
+    }
+
+    private List<LookupDto> toLookupDtos(List<?> bucket) {
+        // Values read back from Redis are untyped maps; values from the in-process tier are already DTOs.
+        if (bucket.isEmpty() || bucket.getFirst() instanceof LookupDto) {
+            @SuppressWarnings("unchecked")
+            List<LookupDto> typedBucket = (List<LookupDto>) bucket;
+            return typedBucket;
+        }
+        return objectMapper.convertValue(bucket, LOOKUP_LIST_TYPE);
+    }
+
+    private int indexOf(List<LookupDto> bucket, Long id) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (Objects.equals(bucket.get(i).getId(), id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
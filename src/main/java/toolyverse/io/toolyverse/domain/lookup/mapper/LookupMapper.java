@@ -5,9 +5,10 @@ import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
 import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
 import toolyverse.io.toolyverse.domain.lookup.model.request.CreateLookupCommandRequest;
 import toolyverse.io.toolyverse.domain.lookup.model.request.UpdateLookupCommandRequest;
+import toolyverse.io.toolyverse.domain.shared.entity.Translations;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Mapper(
         componentModel = "spring",
@@ -28,10 +29,21 @@ public interface LookupMapper {
     default void afterUpdateFromRequest(UpdateLookupCommandRequest request, @MappingTarget Lookup entity) {
         // update for dirty checking of Map fields
         if (request.getTranslations() != null) {
-            entity.setTranslations(new HashMap<>(request.getTranslations()));
+            entity.setTranslations(Translations.of(request.getTranslations()));
         }
     }
 
+    default Translations toTranslations(Map<String, Object> translations) {
+        return Translations.of(translations);
+    }
+
+    // Shares the immutable instance instead of copying it into a new map. The API keeps its
+    // Map<String, Object> contract; reading String values as Object is safe and writes throw anyway.
+    @SuppressWarnings("unchecked")
+    default Map<String, Object> fromTranslations(Translations translations) {
+        return (Map<String, Object>) (Map<String, ?>) translations;
+    }
+
 
     LookupDto toDto(Lookup entity);
 
@@ -0,0 +1,29 @@
+package toolyverse.io.toolyverse.domain.lookup.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Lookups created, updated or soft-deleted since a previous sync.")
+public class LookupChangesDto {
+
+    @Schema(description = "Lookups created or updated since the given watermark. Apply as upserts by id.")
+    private List<LookupDto> upserted;
+
+    @Schema(description = "Lookups soft-deleted since the given watermark. Remove them by id.")
+    private List<LookupDto> deleted;
+
+    @Schema(description = "Watermark (epoch millis) to send as 'since' on the next call.", example = "1760781600000")
+    private long nextSince;
+
+    @Schema(description = "True when no watermark was given and 'upserted' holds the whole catalog.", example = "false")
+    private boolean fullSnapshot;
+}
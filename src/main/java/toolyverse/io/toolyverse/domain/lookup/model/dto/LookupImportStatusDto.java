@@ -0,0 +1,70 @@
+package toolyverse.io.toolyverse.domain.lookup.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Progress of a lookup bulk import run.")
+public class LookupImportStatusDto {
+
+    @Schema(description = "Id of the import run, used to poll or restart it.", example = "42")
+    private Long executionId;
+
+    @Schema(description = "Batch status of the run.", example = "STARTED")
+    private String status;
+
+    @Schema(description = "Exit description; holds the failure reason when the run failed.")
+    private String exitDescription;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private List<StepProgress> steps;
+
+    public static LookupImportStatusDto from(JobExecution jobExecution) {
+        return LookupImportStatusDto.builder()
+                .executionId(jobExecution.getId())
+                .status(jobExecution.getStatus().name())
+                .exitDescription(jobExecution.getExitStatus().getExitDescription())
+                .startTime(jobExecution.getStartTime())
+                .endTime(jobExecution.getEndTime())
+                .steps(jobExecution.getStepExecutions().stream()
+                        .sorted(Comparator.comparing(StepExecution::getId))
+                        .map(StepProgress::from)
+                        .toList())
+                .build();
+    }
+
+    @Schema(description = "Counters of one import step.")
+    public record StepProgress(
+            String name,
+            String status,
+            long readCount,
+            long writeCount,
+            long filterCount,
+            long skipCount
+    ) {
+        static StepProgress from(StepExecution stepExecution) {
+            return new StepProgress(
+                    stepExecution.getStepName(),
+                    stepExecution.getStatus().name(),
+                    stepExecution.getReadCount(),
+                    stepExecution.getWriteCount(),
+                    stepExecution.getFilterCount(),
+                    stepExecution.getSkipCount());
+        }
+    }
+}
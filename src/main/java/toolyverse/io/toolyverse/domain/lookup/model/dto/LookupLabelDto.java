@@ -0,0 +1,25 @@
+package toolyverse.io.toolyverse.domain.lookup.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A lookup reduced to a single label in the caller's language.")
+public record LookupLabelDto(
+        @Schema(description = "The unique identifier of the lookup entity.", example = "1")
+        Long id,
+
+        @Schema(description = "The unique code for the lookup item.", example = "ACTIVE_STATUS")
+        String code,
+
+        @Schema(description = "The code of the parent lookup if this is a child item.", example = "STATUS_CODES")
+        String parentCode,
+
+        @Schema(description = "Translation for the requested language, else the default language, else the description.", example = "Aktif Durum")
+        String label,
+
+        @Schema(description = "Flag to indicate if the lookup is active and available for use.", example = "true")
+        Boolean isActive,
+
+        @Schema(description = "The order in which to display this item relative to its siblings.", example = "1")
+        Integer displayOrder
+) {
+}
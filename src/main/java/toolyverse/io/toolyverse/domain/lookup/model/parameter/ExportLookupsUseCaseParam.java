@@ -0,0 +1,11 @@
+package toolyverse.io.toolyverse.domain.lookup.model.parameter;
+
+import toolyverse.io.toolyverse.domain.shared.enumeration.ExportFormat;
+
+import java.io.OutputStream;
+
+public record ExportLookupsUseCaseParam(
+        ExportFormat format,
+        OutputStream outputStream
+) {
+}
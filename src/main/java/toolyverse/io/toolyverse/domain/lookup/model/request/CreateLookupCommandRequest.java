@@ -39,6 +39,6 @@ public class CreateLookupCommandRequest {
     @Min(value = 0, message = "Display order must be zero or a positive integer.")
     private Integer displayOrder;
 
-    @Schema(description = "A map of language codes to translated descriptions.", example = "{\"tr\": \"Onay Bekliyor\",\"en\": \"Pending Approval\"}")
+    @Schema(description = "A map of language codes to translated descriptions. Values are stored as text; null values are dropped.", example = "{\"tr\": \"Onay Bekliyor\",\"en\": \"Pending Approval\"}")
     private Map<String, Object> translations;
 }
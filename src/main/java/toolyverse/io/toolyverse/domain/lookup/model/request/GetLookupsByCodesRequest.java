@@ -0,0 +1,21 @@
+package toolyverse.io.toolyverse.domain.lookup.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request Object for resolving several lookups by code in one call.")
+public class GetLookupsByCodesRequest {
+    @NotEmpty(message = "Codes cannot be empty.")
+    @Size(max = 500, message = "At most 500 codes can be requested at once.")
+    @Schema(description = "Lookup codes to resolve.", example = "[\"ACTIVE\", \"PENDING_APPROVAL\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<String> codes;
+}
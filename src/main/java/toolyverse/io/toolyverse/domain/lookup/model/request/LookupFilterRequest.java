@@ -5,6 +5,12 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupType;
 import toolyverse.io.toolyverse.domain.shared.model.request.BaseFilterRequest;
+import toolyverse.io.toolyverse.infrastructure.util.TurkishCharConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -17,4 +23,29 @@ public class LookupFilterRequest extends BaseFilterRequest {
 
     @Schema(description = "Filter by active status.", example = "true")
     private Boolean isActive;
+
+    /**
+     * Cache key covering the filter criteria only, so every page of the same query shares one count.
+     * The code is normalized the way it is searched, and the criteria are hashed with SHA-256 after
+     * length-prefixing each one, so distinct criteria never share a key and the key length is fixed.
+     */
+    public String criteriaKey() {
+        String searchKey = TurkishCharConverter.toSearchKey(code);
+        MessageDigest digest = sha256();
+        for (Object criterion : new Object[]{searchKey == null || searchKey.isEmpty() ? null : searchKey,
+                lookupType, isActive, getStartDate(), getEndDate()}) {
+            String value = criterion != null ? criterion.toString() : null;
+            String encoded = value != null ? value.length() + ":" + value : "-";
+            digest.update(encoded.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
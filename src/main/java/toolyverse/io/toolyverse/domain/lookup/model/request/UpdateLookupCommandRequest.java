@@ -34,6 +34,6 @@ public class UpdateLookupCommandRequest {
     @Schema(description = "The display order relative to siblings.", example = "3")
     private Integer displayOrder;
 
-    @Schema(description = "A map of language codes to translated descriptions.", example = "{\"tr\": \"Onaylandı\"}")
+    @Schema(description = "A map of language codes to translated descriptions. Values are stored as text; null values are dropped.", example = "{\"tr\": \"Onaylandı\"}")
     private Map<String, Object> translations;
 }
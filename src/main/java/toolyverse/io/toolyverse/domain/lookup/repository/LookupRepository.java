@@ -1,11 +1,21 @@
 package toolyverse.io.toolyverse.domain.lookup.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.repository.projection.LookupCodeProjection;
+import toolyverse.io.toolyverse.domain.lookup.repository.projection.LookupSearchCodeProjection;
 import toolyverse.io.toolyverse.domain.shared.repository.BaseJpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LookupRepository extends BaseJpaRepository<Lookup, Long> {
@@ -25,4 +35,38 @@ public interface LookupRepository extends BaseJpaRepository<Lookup, Long> {
     Optional<Lookup> findByCodeAndParentCodeIsNullAndDeletedAtIsNull(String parentCode);
 
     List<Lookup> findAllByDeletedAtIsNull();
+
+    @Query("SELECT l.id AS id, l.searchCode AS searchCode FROM Lookup l WHERE l.searchCode IS NOT NULL")
+    List<LookupSearchCodeProjection> findAllSearchCodes();
+
+    @Query("SELECT DISTINCT l.code FROM Lookup l WHERE l.searchCode IS NULL")
+    List<String> findAllCodesWithoutSearchCode();
+
+    /**
+     * Fills search_code of every row with the given code that has none yet. A bulk update, so neither
+     * the audit columns nor the entity listeners are touched.
+     */
+    @Modifying
+    @Query("UPDATE Lookup l SET l.searchCode = :searchCode WHERE l.code = :code AND l.searchCode IS NULL")
+    int fillSearchCode(@Param("code") String code, @Param("searchCode") String searchCode);
+
+    @Query("SELECT l.parentCode AS parentCode, l.code AS code FROM Lookup l")
+    List<LookupCodeProjection> findAllCodes();
+
+    /**
+     * Lookups created, updated or soft-deleted after the given time, including deleted rows.
+     */
+    @Query("SELECT l FROM Lookup l WHERE l.updatedAt > :changedAfter OR l.deletedAt > :changedAfter ORDER BY l.id")
+    List<Lookup> findAllChangedAfter(@Param("changedAfter") LocalDateTime changedAfter);
+
+    /**
+     * Streams every non-deleted lookup in id order. Must be consumed inside a transaction and closed.
+     * A fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Lookup l WHERE l.deletedAt IS NULL ORDER BY l.id")
+    Stream<Lookup> streamAllByDeletedAtIsNull();
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package toolyverse.io.toolyverse.domain.lookup.repository.projection;
+
+public interface LookupCodeProjection {
+
+    String getParentCode();
+
+    String getCode();
+}
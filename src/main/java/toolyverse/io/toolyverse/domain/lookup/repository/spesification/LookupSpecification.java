@@ -3,12 +3,24 @@ package toolyverse.io.toolyverse.domain.lookup.repository.spesification;
 import org.springframework.data.jpa.domain.Specification;
 import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
 import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupType;
+import toolyverse.io.toolyverse.domain.lookup.model.request.LookupFilterRequest;
 import toolyverse.io.toolyverse.domain.shared.repository.specification.BaseSpecification;
+import toolyverse.io.toolyverse.infrastructure.util.TrigramIndex;
 
 public class LookupSpecification {
 
-    public static Specification<Lookup> hasCodeLike(String code) {
-        return BaseSpecification.like("code", code);
+    public static Specification<Lookup> matches(LookupFilterRequest filter, TrigramIndex<Long> searchIndex) {
+        // Start with a neutral specification
+        Specification<Lookup> spec = (_, _, _) -> null;
+        return spec
+                .and(hasCodeLike(filter.getCode(), searchIndex))
+                .and(isActive(filter.getIsActive()))
+                .and(isType(filter.getLookupType()))
+                .and(BaseSpecification.createdBetween(filter.getStartDate(), filter.getEndDate()));
+    }
+
+    public static Specification<Lookup> hasCodeLike(String code, TrigramIndex<Long> searchIndex) {
+        return BaseSpecification.searchKeyContains("searchCode", code, searchIndex);
     }
 
     public static Specification<Lookup> isActive(Boolean isActive) {
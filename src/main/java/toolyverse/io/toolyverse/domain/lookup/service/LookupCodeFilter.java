@@ -0,0 +1,68 @@
+package toolyverse.io.toolyverse.domain.lookup.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.repository.projection.LookupCodeProjection;
+import toolyverse.io.toolyverse.infrastructure.util.BloomFilter;
+
+import java.util.List;
+
+/**
+ * Bloom filter over every (parentCode, code) pair ever stored, soft-deleted rows included, as they
+ * still hold their unique key.
+ * <p>
+ * Built once the application is ready, extended by creates on this node and rebuilt after bulk imports. Rows inserted by other
+ * nodes are not added, so "absent" is only trusted where the database unique constraint backs it up.
+ * Until the filter is built every key is reported as possibly present.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LookupCodeFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 10_000;
+
+    private final LookupRepository lookupRepository;
+
+    private volatile BloomFilter filter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        List<LookupCodeProjection> codes = lookupRepository.findAllCodes();
+        // Leave headroom for growth; overfilling only raises the false positive rate.
+        BloomFilter built = BloomFilter.create(Math.max(MIN_CAPACITY, codes.size() * 2L), FALSE_POSITIVE_RATE);
+        codes.forEach(row -> built.put(key(row.getParentCode(), row.getCode())));
+        filter = built;
+        log.debug("Built lookup code filter over {} codes", codes.size());
+    }
+
+    public boolean mightContain(String parentCode, String code) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(key(parentCode, code));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        if (event.type() == LookupChangeType.BULK_IMPORTED) {
+            build();
+            return;
+        }
+        BloomFilter current = filter;
+        if (current != null && event.type() == LookupChangeType.CREATED) {
+            current.put(key(event.lookup().getParentCode(), event.lookup().getCode()));
+        }
+    }
+
+    private static String key(String parentCode, String code) {
+        return (parentCode == null ? "" : parentCode) + '\u0000' + code;
+    }
+}
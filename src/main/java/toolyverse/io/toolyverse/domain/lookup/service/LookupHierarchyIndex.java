@@ -0,0 +1,221 @@
+package toolyverse.io.toolyverse.domain.lookup.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupLabelDto;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.service.usecase.GetAllLookupsWithMapUseCase;
+import toolyverse.io.toolyverse.infrastructure.config.cache.CacheInvalidationBus;
+import toolyverse.io.toolyverse.infrastructure.util.ContentETags;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable in-memory view of all non-deleted lookups, answering by-code and by-parent queries without
+ * touching the database.
+ * <p>
+ * The snapshot is built with a single query on first use and swapped atomically. Lookup writes on this
+ * node drop it after commit and announce the change on the {@link CacheInvalidationBus}, so every node
+ * rebuilds on its next read. The bus is fire-and-forget, so a snapshot is also rebuilt once it is older
+ * than {@link #REBUILD_TTL}, which bounds how long a missed message or a direct database write can go
+ * unnoticed. Returned DTOs are shared and must not be modified.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LookupHierarchyIndex {
+
+    public static final String INVALIDATION_REGION = "lookup_hierarchy";
+    public static final Duration REBUILD_TTL = Duration.ofMinutes(5);
+
+    // Same ordering as idx_lookup_hierarchy (parent_code, display_order); MySQL sorts NULLs first.
+    private static final Comparator<LookupDto> DISPLAY_ORDER = Comparator
+            .comparing(LookupDto::getDisplayOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(LookupDto::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LookupRepository lookupRepository;
+    private final LookupMapper lookupMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ContentETags contentETags;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.subscribe(INVALIDATION_REGION, this::invalidateLocal);
+    }
+
+    public Optional<LookupDto> findByCode(String code) {
+        return Optional.ofNullable(currentSnapshot().byCode().get(code));
+    }
+
+    /**
+     * Returns the children of a top-level group ordered by display order,
+     * or empty if no such group exists.
+     */
+    public Optional<List<LookupDto>> findChildrenOfGroup(String groupCode) {
+        Snapshot current = currentSnapshot();
+        if (!current.groupCodes().contains(groupCode)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.childrenByParent().getOrDefault(groupCode, List.of()));
+    }
+
+    /**
+     * All non-deleted lookups ordered by id.
+     */
+    public List<LookupDto> findAll() {
+        return currentSnapshot().all();
+    }
+
+    /**
+     * All lookups grouped by parent code like {@code GET /all}, each reduced to a label in
+     * {@code language}, falling back to {@code fallbackLanguage} and then the description.
+     * Computed once per language pair and snapshot; languages no lookup is translated to share the
+     * fallback projection, which keeps the number of projections bounded. The ETag is hashed from the
+     * projection itself, so it always describes the labels it is served with.
+     */
+    public LabelledCatalog findAllLabelled(String language, String fallbackLanguage) {
+        Snapshot current = currentSnapshot();
+        String effectiveLanguage = current.languages().contains(language) ? language : fallbackLanguage;
+        return current.labelsByLanguage().computeIfAbsent(effectiveLanguage + "|" + fallbackLanguage, _ -> {
+            Map<String, List<LookupLabelDto>> labels = buildLabels(current.all(), effectiveLanguage, fallbackLanguage);
+            return new LabelledCatalog(labels, contentETags.compute(labels));
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        invalidateLocal();
+        cacheInvalidationBus.publish(INVALIDATION_REGION);
+    }
+
+    public void invalidateLocal() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    // --- Private Helper Methods ---
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null || current.isExpired()) {
+                Snapshot expired = current;
+                long observedGeneration = generation.get();
+                current = buildSnapshot();
+                // Do not publish a snapshot that was invalidated while it was being built.
+                if (observedGeneration == generation.get()) {
+                    snapshot.compareAndSet(expired, current);
+                }
+            }
+            return current;
+        }
+    }
+
+    private Snapshot buildSnapshot() {
+        List<Lookup> lookups = lookupRepository.findAllByDeletedAtIsNull();
+
+        List<LookupDto> all = new ArrayList<>(lookups.size());
+        Map<String, LookupDto> byCode = new HashMap<>(lookups.size() * 2);
+        Map<String, List<LookupDto>> childrenByParent = new HashMap<>();
+        Set<String> groupCodes = new HashSet<>();
+        Set<String> languages = new HashSet<>();
+
+        for (Lookup lookup : lookups) {
+            LookupDto dto = lookupMapper.toDto(lookup);
+            all.add(dto);
+            if (dto.getTranslations() != null) {
+                languages.addAll(dto.getTranslations().keySet());
+            }
+            if (lookup.getParentCode() == null) {
+                // A top-level group wins over an item sharing its code.
+                groupCodes.add(lookup.getCode());
+                byCode.put(lookup.getCode(), dto);
+            } else {
+                byCode.putIfAbsent(lookup.getCode(), dto);
+                childrenByParent.computeIfAbsent(lookup.getParentCode(), _ -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        Map<String, List<LookupDto>> sortedChildren = new HashMap<>(childrenByParent.size() * 2);
+        childrenByParent.forEach((parentCode, children) -> {
+            children.sort(DISPLAY_ORDER);
+            sortedChildren.put(parentCode, List.copyOf(children));
+        });
+
+        log.debug("Built lookup hierarchy index with {} lookups in {} groups", lookups.size(), groupCodes.size());
+        all.sort(Comparator.comparing(LookupDto::getId));
+        return new Snapshot(List.copyOf(all), Map.copyOf(byCode), Map.copyOf(sortedChildren), Set.copyOf(groupCodes),
+                Set.copyOf(languages), new ConcurrentHashMap<>(), System.nanoTime() + REBUILD_TTL.toNanos());
+    }
+
+    private Map<String, List<LookupLabelDto>> buildLabels(List<LookupDto> lookups, String language, String fallbackLanguage) {
+        Map<String, List<LookupLabelDto>> labels = new HashMap<>();
+        for (LookupDto lookup : lookups) {
+            String group = lookup.getParentCode() != null ? lookup.getParentCode() : GetAllLookupsWithMapUseCase.ROOT_GROUP;
+            labels.computeIfAbsent(group, _ -> new ArrayList<>()).add(new LookupLabelDto(
+                    lookup.getId(),
+                    lookup.getCode(),
+                    lookup.getParentCode(),
+                    label(lookup, language, fallbackLanguage),
+                    lookup.getIsActive(),
+                    lookup.getDisplayOrder()));
+        }
+        Map<String, List<LookupLabelDto>> frozen = new HashMap<>(labels.size() * 2);
+        labels.forEach((group, groupLabels) -> frozen.put(group, List.copyOf(groupLabels)));
+        return Map.copyOf(frozen);
+    }
+
+    private static String label(LookupDto lookup, String language, String fallbackLanguage) {
+        Map<String, Object> translations = lookup.getTranslations();
+        if (translations != null) {
+            Object label = translations.get(language);
+            if (label == null) {
+                label = translations.get(fallbackLanguage);
+            }
+            if (label != null) {
+                return label.toString();
+            }
+        }
+        return lookup.getDescription();
+    }
+
+    private record Snapshot(
+            List<LookupDto> all,
+            Map<String, LookupDto> byCode,
+            Map<String, List<LookupDto>> childrenByParent,
+            Set<String> groupCodes,
+            Set<String> languages,
+            Map<String, LabelledCatalog> labelsByLanguage,
+            long expiresAtNanos
+    ) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
+    public record LabelledCatalog(
+            Map<String, List<LookupLabelDto>> labels,
+            String eTag
+    ) {
+    }
+}
@@ -0,0 +1,118 @@
+package toolyverse.io.toolyverse.domain.lookup.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.repository.projection.LookupSearchCodeProjection;
+import toolyverse.io.toolyverse.infrastructure.config.cache.CacheInvalidationBus;
+import toolyverse.io.toolyverse.infrastructure.util.TrigramIndex;
+import toolyverse.io.toolyverse.infrastructure.util.TurkishCharConverter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Trigram index over {@code Lookup.searchCode} used to turn code searches into id lookups.
+ * <p>
+ * Covers deleted rows as well, since the filtered list endpoint does not exclude them. Invalidation
+ * follows {@link LookupHierarchyIndex}: dropped after commit locally, announced on the bus, rebuilt
+ * lazily on the next search, and rebuilt anyway once older than {@link LookupHierarchyIndex#REBUILD_TTL}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LookupSearchIndex {
+
+    public static final String INVALIDATION_REGION = "lookup_search";
+
+    private final LookupRepository lookupRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final AtomicReference<BuiltIndex> index = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.subscribe(INVALIDATION_REGION, this::invalidateLocal);
+    }
+
+    /**
+     * Fills search_code for rows written before the column existed, with one bulk update per distinct
+     * code, so the rows' updated_at and updated_by stay as they were. Idempotent, so concurrent startups
+     * on several nodes are harmless.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchCodes() {
+        List<String> codes = lookupRepository.findAllCodesWithoutSearchCode();
+        if (codes.isEmpty()) {
+            return;
+        }
+        int updated = 0;
+        for (String code : codes) {
+            updated += lookupRepository.fillSearchCode(code, TurkishCharConverter.toSearchKey(code));
+        }
+        log.info("Backfilled search_code for {} lookups", updated);
+        invalidateLocal();
+    }
+
+    public TrigramIndex<Long> current() {
+        BuiltIndex current = index.get();
+        if (current != null && !current.isExpired()) {
+            return current.index();
+        }
+
+        synchronized (this) {
+            current = index.get();
+            if (current == null || current.isExpired()) {
+                BuiltIndex expired = current;
+                long observedGeneration = generation.get();
+                current = buildIndex();
+                if (observedGeneration == generation.get()) {
+                    index.compareAndSet(expired, current);
+                }
+            }
+            return current.index();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        invalidateLocal();
+        cacheInvalidationBus.publish(INVALIDATION_REGION);
+    }
+
+    public void invalidateLocal() {
+        generation.incrementAndGet();
+        index.set(null);
+    }
+
+    // --- Private Helper Methods ---
+
+    private BuiltIndex buildIndex() {
+        List<LookupSearchCodeProjection> rows = lookupRepository.findAllSearchCodes();
+        Map<Long, String> keysById = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> keysById.put(row.getId(), row.getSearchCode()));
+
+        TrigramIndex<Long> built = TrigramIndex.build(keysById);
+        log.debug("Built lookup search index with {} codes", built.size());
+        return new BuiltIndex(built, System.nanoTime() + LookupHierarchyIndex.REBUILD_TTL.toNanos());
+    }
+
+    private record BuiltIndex(TrigramIndex<Long> index, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
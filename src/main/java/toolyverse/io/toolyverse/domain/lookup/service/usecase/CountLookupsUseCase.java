@@ -0,0 +1,44 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.model.request.LookupFilterRequest;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.repository.spesification.LookupSpecification;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupSearchIndex;
+import toolyverse.io.toolyverse.infrastructure.config.cache.CacheNames;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+import java.time.Duration;
+
+/**
+ * Approximate total for slice responses. The count is cached per filter criteria for a short TTL and
+ * not evicted on writes, so it may lag behind by up to {@link #COUNT_TTL}.
+ * <p>
+ * Stored as a plain string rather than through the JSON cache managers, which would read small
+ * numbers back as {@link Integer}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CountLookupsUseCase implements UseCase<LookupFilterRequest, Long> {
+
+    private static final Duration COUNT_TTL = Duration.ofMinutes(1);
+
+    private final LookupRepository lookupRepository;
+    private final LookupSearchIndex lookupSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public Long execute(LookupFilterRequest filter) {
+        String cacheKey = CacheNames.CACHE_LOOKUP_COUNTS + "::" + filter.criteriaKey();
+        String cachedCount = stringRedisTemplate.opsForValue().get(cacheKey);
+        if (cachedCount != null) {
+            return Long.valueOf(cachedCount);
+        }
+
+        long count = lookupRepository.count(LookupSpecification.matches(filter, lookupSearchIndex.current()));
+        stringRedisTemplate.opsForValue().set(cacheKey, Long.toString(count), COUNT_TTL);
+        return count;
+    }
+}
@@ -1,26 +1,35 @@
 package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
 import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
 import toolyverse.io.toolyverse.domain.lookup.model.request.CreateLookupCommandRequest;
 import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
-import toolyverse.io.toolyverse.infrastructure.config.cache.CacheNames;
-import toolyverse.io.toolyverse.infrastructure.config.cache.RedisCacheConfig;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupCodeFilter;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCaseWithInput;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class CreateLookupUseCase implements UseCaseWithInput<CreateLookupCommandRequest> {
 
     private final LookupRepository lookupRepository;
     private final LookupMapper lookupMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LookupHierarchyIndex lookupHierarchyIndex;
+    private final LookupCodeFilter lookupCodeFilter;
 
-    @CacheEvict(value = CacheNames.CACHE_ALL_LOOKUPS, allEntries = true, cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_FIVE_MINUTES)
     @Override
     @Transactional
     public void execute(CreateLookupCommandRequest request) {
@@ -33,7 +42,17 @@ public class CreateLookupUseCase implements UseCaseWithInput<CreateLookupCommand
         // If validations pass, create and save the new lookup.
         var lookup = lookupMapper.toEntity(request);
         lookup.setParentCode(parentCode);
-        lookupRepository.save(lookup);
+        Lookup savedLookup;
+        try {
+            // Flush now so a unique key violation surfaces here rather than at commit.
+            savedLookup = lookupRepository.saveAndFlush(lookup);
+        } catch (DataIntegrityViolationException e) {
+            if (!isParentCodeViolation(e)) {
+                throw e;
+            }
+            throw duplicateItem(request.getCode(), parentCode);
+        }
+        eventPublisher.publishEvent(new LookupChangedEvent(LookupChangeType.CREATED, lookupMapper.toDto(savedLookup)));
     }
 
     // --- Private Helper Methods ---
@@ -43,8 +62,10 @@ public class CreateLookupUseCase implements UseCaseWithInput<CreateLookupCommand
             return null;
         }
 
-        return lookupRepository.findByCode(parentCode)
-                .map(Lookup::getCode)
+        // The index answers for committed parents; fall back to the database for one created moments ago.
+        return lookupHierarchyIndex.findByCode(parentCode)
+                .map(LookupDto::getCode)
+                .or(() -> lookupRepository.findByCode(parentCode).map(Lookup::getCode))
                 .orElseThrow(() -> new RuntimeException(
                         String.format("Parent lookup with code '%s' not found.", parentCode)
                 ));
@@ -52,21 +73,39 @@ public class CreateLookupUseCase implements UseCaseWithInput<CreateLookupCommand
 
     private void validateUniqueness(String code, String parentCode) {
         if (parentCode != null) {
-            // Check for uniqueness within the parent group.
-            if (lookupRepository.existsByParentCodeAndCode(parentCode, code)) {
-                throw new IllegalStateException(
-                        String.format("A lookup item with code '%s' already exists in the group with code '%s'.",
-                                code, parentCode)
-                );
+            // Check for uniqueness within the parent group. A definite "absent" from the filter skips the
+            // query; uk_lookup_parent_code still rejects anything the filter has not seen.
+            if (lookupCodeFilter.mightContain(parentCode, code)
+                    && lookupRepository.existsByParentCodeAndCode(parentCode, code)) {
+                throw duplicateItem(code, parentCode);
             }
         } else {
-            // Check for uniqueness among top-level groups.
+            // Check for uniqueness among top-level groups. NULL parent codes are not covered by the
+            // unique constraint, so this check always goes to the database.
             if (lookupRepository.existsByParentCodeIsNullAndCode(code)) {
-                throw new IllegalStateException(
-                        String.format("A top-level lookup group with code '%s' already exists.", code)
-                );
+                throw duplicateItem(code, null);
             }
         }
     }
 
+    // Only a concurrent insert of the same (parent, code) is a duplicate; any other violation, such as a
+    // missing NOT NULL column, is rethrown as is. MySQL reports the key as "lookups.uk_lookup_parent_code".
+    private static boolean isParentCodeViolation(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation) || violation.getConstraintName() == null) {
+            return false;
+        }
+        String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+        return constraintName.equals(Lookup.PARENT_CODE_UNIQUE_CONSTRAINT)
+                || constraintName.endsWith("." + Lookup.PARENT_CODE_UNIQUE_CONSTRAINT);
+    }
+
+    private IllegalStateException duplicateItem(String code, String parentCode) {
+        if (parentCode == null) {
+            return new IllegalStateException(
+                    String.format("A top-level lookup group with code '%s' already exists.", code));
+        }
+        return new IllegalStateException(
+                String.format("A lookup item with code '%s' already exists in the group with code '%s'.",
+                        code, parentCode));
+    }
 }
\ No newline at end of file
@@ -1,29 +1,41 @@
 package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
 import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
 import toolyverse.io.toolyverse.domain.shared.enumeration.DeletedStatus;
-import toolyverse.io.toolyverse.infrastructure.config.cache.CacheNames;
-import toolyverse.io.toolyverse.infrastructure.config.cache.RedisCacheConfig;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCaseWithInput;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class DeleteLookupUseCase implements UseCaseWithInput<Long> {
 
     private final LookupRepository lookupRepository;
+    private final LookupMapper lookupMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditorAware<String> auditorAware;
 
-    @CacheEvict(value = CacheNames.CACHE_ALL_LOOKUPS, allEntries = true, cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_FIVE_MINUTES)
     @Override
     @Transactional
     public void execute(Long id) {
         Lookup lookupToDelete = lookupRepository.findById(id, DeletedStatus.DELETED_FALSE)
                 .orElseThrow(() -> new RuntimeException("Lookup not found with id: " + id));
 
-        lookupRepository.delete(lookupToDelete);
+        // Stamped here rather than by the @SQLDelete now(): delta sync compares deleted_at with
+        // updated_at and with application-clock watermarks, so all three must share one clock and zone.
+        // A save() skips SoftDeleteListener, so deleted_by is recorded here as well.
+        lookupToDelete.setDeletedAt(LocalDateTime.now());
+        auditorAware.getCurrentAuditor().ifPresent(lookupToDelete::setDeletedBy);
+        lookupRepository.save(lookupToDelete);
+        eventPublisher.publishEvent(new LookupChangedEvent(LookupChangeType.DELETED, lookupMapper.toDto(lookupToDelete)));
     }
 }
\ No newline at end of file
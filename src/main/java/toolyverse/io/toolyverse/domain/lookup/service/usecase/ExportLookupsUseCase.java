@@ -0,0 +1,74 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.model.parameter.ExportLookupsUseCaseParam;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCaseWithInput;
+import toolyverse.io.toolyverse.infrastructure.util.ExportStreamWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams all non-deleted lookups to the given output stream. Rows are detached as soon as they are
+ * written, so heap use does not grow with the table.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportLookupsUseCase implements UseCaseWithInput<ExportLookupsUseCaseParam> {
+
+    private static final List<String> CSV_HEADER =
+            List.of("id", "code", "parentCode", "description", "isActive", "displayOrder", "translations");
+
+    private final LookupRepository lookupRepository;
+    private final LookupMapper lookupMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void execute(ExportLookupsUseCaseParam param) {
+        try (Stream<Lookup> lookups = lookupRepository.streamAllByDeletedAtIsNull();
+             ExportStreamWriter<LookupDto> writer = ExportStreamWriter.open(
+                     param.format(), param.outputStream(), objectMapper, CSV_HEADER, this::toCsvColumns)) {
+            Iterator<Lookup> iterator = lookups.iterator();
+            while (iterator.hasNext()) {
+                Lookup lookup = iterator.next();
+                writer.write(lookupMapper.toDto(lookup));
+                entityManager.detach(lookup);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<?> toCsvColumns(LookupDto lookup) {
+        String translations;
+        try {
+            translations = lookup.getTranslations() == null ? null : objectMapper.writeValueAsString(lookup.getTranslations());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.asList(
+                lookup.getId(),
+                lookup.getCode(),
+                lookup.getParentCode(),
+                lookup.getDescription(),
+                lookup.getIsActive(),
+                lookup.getDisplayOrder(),
+                translations
+        );
+    }
+}
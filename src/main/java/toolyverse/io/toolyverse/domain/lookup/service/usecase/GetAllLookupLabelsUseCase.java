@@ -0,0 +1,32 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+import java.util.Locale;
+
+/**
+ * The all-lookups map projected to one label per lookup for the given locale. Projections are cached
+ * with the lookup index snapshot, so they are built once per language and dropped with it on change.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetAllLookupLabelsUseCase implements UseCase<Locale, LookupHierarchyIndex.LabelledCatalog> {
+
+    // Same default as MessageConfig's locale resolver.
+    public static final String DEFAULT_LANGUAGE = "tr";
+
+    private final LookupHierarchyIndex lookupHierarchyIndex;
+
+    @Override
+    public LookupHierarchyIndex.LabelledCatalog execute(Locale locale) {
+        return lookupHierarchyIndex.findAllLabelled(languageOf(locale), DEFAULT_LANGUAGE);
+    }
+
+    public static String languageOf(Locale locale) {
+        String language = locale != null ? locale.getLanguage() : "";
+        return language.isEmpty() ? DEFAULT_LANGUAGE : language;
+    }
+}
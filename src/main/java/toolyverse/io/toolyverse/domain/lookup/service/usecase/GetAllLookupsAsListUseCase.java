@@ -0,0 +1,24 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCaseWithOutput;
+
+import java.util.List;
+
+/**
+ * All non-deleted lookups ordered by id, straight from the in-memory index.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetAllLookupsAsListUseCase implements UseCaseWithOutput<List<LookupDto>> {
+
+    private final LookupHierarchyIndex lookupHierarchyIndex;
+
+    @Override
+    public List<LookupDto> execute() {
+        return lookupHierarchyIndex.findAll();
+    }
+}
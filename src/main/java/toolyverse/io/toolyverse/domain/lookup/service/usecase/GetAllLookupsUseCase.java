@@ -1,9 +1,9 @@
 package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -13,19 +13,27 @@ import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
 import toolyverse.io.toolyverse.domain.lookup.model.request.LookupFilterRequest;
 import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
 import toolyverse.io.toolyverse.domain.lookup.repository.spesification.LookupSpecification;
-import toolyverse.io.toolyverse.domain.shared.repository.specification.BaseSpecification;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupSearchIndex;
+import toolyverse.io.toolyverse.domain.shared.enumeration.PaginationMode;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
 
 
 @Service
 @RequiredArgsConstructor
-public class GetAllLookupsUseCase implements UseCase<LookupFilterRequest, Page<LookupDto>> {
+public class GetAllLookupsUseCase implements UseCase<LookupFilterRequest, Slice<LookupDto>> {
 
     private final LookupRepository lookupRepository;
+    private final LookupSearchIndex lookupSearchIndex;
     private final LookupMapper lookupMapper;
 
     @Override
-    public Page<LookupDto> execute(LookupFilterRequest filter) {
+    public Slice<LookupDto> execute(LookupFilterRequest filter) {
+
+        Specification<Lookup> spec = LookupSpecification.matches(filter, lookupSearchIndex.current());
+
+        if (filter.getPaginationMode() == PaginationMode.CURSOR) {
+            return lookupRepository.findAllByCursor(spec, filter).map(lookupMapper::toDto);
+        }
 
         Pageable pageable = PageRequest.of(
                 filter.getPage(),
@@ -33,15 +41,10 @@ public class GetAllLookupsUseCase implements UseCase<LookupFilterRequest, Page<L
                 Sort.by(filter.getSortDir(), filter.getSortBy())
         );
 
-        // Start with a neutral specification
-        Specification<Lookup> spec = (_, _, _) -> null;
-        spec = spec
-                .and(LookupSpecification.hasCodeLike(filter.getCode()))
-                .and(LookupSpecification.isActive(filter.getIsActive()))
-                .and(LookupSpecification.isType(filter.getLookupType()))
-                .and(BaseSpecification.createdBetween(filter.getStartDate(), filter.getEndDate()));
+        if (filter.getPaginationMode() == PaginationMode.SLICE) {
+            return lookupRepository.findAllAsSlice(spec, pageable).map(lookupMapper::toDto);
+        }
 
-        Page<Lookup> lookupsPage = lookupRepository.findAll(spec, pageable);
-        return lookupsPage.map(lookupMapper::toDto);
+        return lookupRepository.findAll(spec, pageable).map(lookupMapper::toDto);
     }
-}
\ No newline at end of file
+}
@@ -19,10 +19,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetAllLookupsWithMapUseCase implements UseCaseWithOutput<Map<String, List<LookupDto>>> {
 
+    public static final String ROOT_GROUP = "ROOT";
+
     private final LookupRepository lookupRepository;
     private final LookupMapper lookupMapper;
 
-    @Cacheable(value = CacheNames.CACHE_ALL_LOOKUPS, cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_FIVE_MINUTES)
+    @Cacheable(value = CacheNames.CACHE_ALL_LOOKUPS, cacheManager = RedisCacheConfig.TWO_TIER_CACHE_MANAGER_FIVE_MINUTES)
     @Override
     public Map<String, List<LookupDto>> execute() {
 
@@ -30,7 +32,7 @@ public class GetAllLookupsWithMapUseCase implements UseCaseWithOutput<Map<String
 
         return allLookups.stream()
                 .collect(Collectors.groupingBy(
-                        lookup -> lookup.getParentCode() != null ? lookup.getParentCode() : "ROOT",
+                        lookup -> lookup.getParentCode() != null ? lookup.getParentCode() : ROOT_GROUP,
                         Collectors.mapping(lookupMapper::toDto, Collectors.toList())
                 ));
     }
@@ -1,27 +1,29 @@
 package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
 import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
-import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
 
+/**
+ * Served from {@link LookupHierarchyIndex}, which doubles as the per-code cache: a code absent from the
+ * snapshot is a cached miss, and both hits and misses are refreshed together when lookups change.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetLookupByCodeUseCase implements UseCase<String, LookupDto> {
 
-    private final LookupRepository lookupRepository;
-    private final LookupMapper lookupMapper;
+    private final LookupHierarchyIndex lookupHierarchyIndex;
 
     @Override
     public LookupDto execute(String code) {
-        log.info("Get Lookup by code: {}", code);
-        return lookupRepository.findByCode(code)
-                .map(lookupMapper::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Lookup not found with code: " + code));
+        log.debug("Get Lookup by code: {}", code);
+        return lookupHierarchyIndex.findByCode(code)
+                .orElseThrow(() -> ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, code));
     }
 }
\ No newline at end of file
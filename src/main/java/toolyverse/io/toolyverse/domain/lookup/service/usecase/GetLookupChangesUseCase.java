@@ -0,0 +1,66 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupChangesDto;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: returns lookups changed after a watermark previously handed out by this use case.
+ * <p>
+ * Watermarks, {@code updated_at} and {@code deleted_at} all come from the application clock (see
+ * {@link DeleteLookupUseCase}), so they compare in one time zone. Audit timestamps are taken before
+ * commit, so a row can become visible with a timestamp slightly older than a watermark already
+ * returned. Each query therefore reaches back {@link #OVERLAP}; clients apply results idempotently by
+ * id, so re-delivered rows are harmless.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetLookupChangesUseCase implements UseCase<Long, LookupChangesDto> {
+
+    private static final Duration OVERLAP = Duration.ofSeconds(10);
+
+    private final LookupRepository lookupRepository;
+    private final LookupMapper lookupMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public LookupChangesDto execute(Long since) {
+        long nextSince = System.currentTimeMillis();
+
+        if (since == null || since <= 0) {
+            return LookupChangesDto.builder()
+                    .upserted(lookupMapper.toDtoList(lookupRepository.findAllByDeletedAtIsNull()))
+                    .deleted(List.of())
+                    .nextSince(nextSince)
+                    .fullSnapshot(true)
+                    .build();
+        }
+
+        LocalDateTime changedAfter = LocalDateTime.ofInstant(Instant.ofEpochMilli(since).minus(OVERLAP), ZoneId.systemDefault());
+        List<LookupDto> upserted = new ArrayList<>();
+        List<LookupDto> deleted = new ArrayList<>();
+        for (Lookup lookup : lookupRepository.findAllChangedAfter(changedAfter)) {
+            (lookup.getDeletedAt() != null ? deleted : upserted).add(lookupMapper.toDto(lookup));
+        }
+
+        return LookupChangesDto.builder()
+                .upserted(upserted)
+                .deleted(deleted)
+                .nextSince(nextSince)
+                .fullSnapshot(false)
+                .build();
+    }
+}
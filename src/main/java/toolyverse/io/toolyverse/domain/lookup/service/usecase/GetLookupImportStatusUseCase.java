@@ -0,0 +1,31 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.batch.LookupImportJobConfig;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupImportStatusDto;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+@Service
+@RequiredArgsConstructor
+public class GetLookupImportStatusUseCase implements UseCase<Long, LookupImportStatusDto> {
+
+    private final JobExplorer jobExplorer;
+
+    @Override
+    public LookupImportStatusDto execute(Long executionId) {
+        return LookupImportStatusDto.from(findImportExecution(jobExplorer, executionId));
+    }
+
+    static JobExecution findImportExecution(JobExplorer jobExplorer, Long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null || !LookupImportJobConfig.JOB_NAME.equals(jobExecution.getJobInstance().getJobName())) {
+            throw ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, executionId);
+        }
+        return jobExecution;
+    }
+}
@@ -0,0 +1,32 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves many codes in one call. Codes that do not exist are left out of the result.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetLookupsByCodesUseCase implements UseCase<List<String>, Map<String, LookupDto>> {
+
+    private final LookupHierarchyIndex lookupHierarchyIndex;
+
+    @Override
+    public Map<String, LookupDto> execute(List<String> codes) {
+        Map<String, LookupDto> lookups = new LinkedHashMap<>(codes.size() * 2);
+        for (String code : codes) {
+            if (code != null && !lookups.containsKey(code)) {
+                lookupHierarchyIndex.findByCode(code).ifPresent(lookup -> lookups.put(code, lookup));
+            }
+        }
+        return lookups;
+    }
+}
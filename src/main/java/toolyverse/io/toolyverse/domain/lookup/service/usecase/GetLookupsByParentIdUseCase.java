@@ -2,9 +2,8 @@ package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
 import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
-import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
 import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
 
@@ -16,13 +15,10 @@ import static toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil.bu
 @RequiredArgsConstructor
 public class GetLookupsByParentIdUseCase implements UseCase<String, List<LookupDto>> {
 
-    private final LookupRepository lookupRepository;
-    private final LookupMapper lookupMapper;
+    private final LookupHierarchyIndex lookupHierarchyIndex;
 
     public List<LookupDto> execute(String parentCode) {
-        var parentLookup = lookupRepository.findByCodeAndParentCodeIsNullAndDeletedAtIsNull(parentCode)
+        return lookupHierarchyIndex.findChildrenOfGroup(parentCode)
                 .orElseThrow(() -> buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, parentCode));
-        var lookups = lookupRepository.findAllByParentCodeAndDeletedAtIsNull(parentLookup.getCode());
-        return lookupMapper.toDtoList(lookups);
     }
 }
@@ -0,0 +1,39 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.lookup.batch.LookupImportJobLauncher;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupImportStatusDto;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+/**
+ * Restarts a failed or stopped import with its original parameters. Steps that completed are skipped;
+ * the interrupted step starts over, relying on the idempotent writer.
+ */
+@Service
+@RequiredArgsConstructor
+public class RestartLookupImportUseCase implements UseCase<Long, LookupImportStatusDto> {
+
+    private final JobExplorer jobExplorer;
+    private final LookupImportJobLauncher lookupImportJobLauncher;
+
+    @Override
+    public LookupImportStatusDto execute(Long executionId) {
+        JobExecution previous = GetLookupImportStatusUseCase.findImportExecution(jobExplorer, executionId);
+        try {
+            return LookupImportStatusDto.from(lookupImportJobLauncher.run(previous.getJobParameters()));
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException | JobRestartException e) {
+            throw ExceptionUtil.buildException(ExceptionMessage.JOB_NOT_RESTARTABLE_EXCEPTION, executionId);
+        } catch (JobParametersInvalidException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
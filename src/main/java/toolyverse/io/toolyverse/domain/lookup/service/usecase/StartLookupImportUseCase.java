@@ -0,0 +1,71 @@
+package toolyverse.io.toolyverse.domain.lookup.service.usecase;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import toolyverse.io.toolyverse.domain.lookup.batch.LookupImportJobConfig;
+import toolyverse.io.toolyverse.domain.lookup.batch.LookupImportJobLauncher;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupImportStatusDto;
+import toolyverse.io.toolyverse.infrastructure.usecase.UseCase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Stores the uploaded CSV on local disk and starts an import run for it. The file is kept so a failed
+ * run can be restarted; restarts must therefore be issued to the same node.
+ */
+@Service
+public class StartLookupImportUseCase implements UseCase<MultipartFile, LookupImportStatusDto> {
+
+    private final LookupImportJobLauncher lookupImportJobLauncher;
+    private final AuditorAware<String> auditorAware;
+    private final Path importDirectory;
+
+    public StartLookupImportUseCase(LookupImportJobLauncher lookupImportJobLauncher,
+                                    AuditorAware<String> auditorAware,
+                                    @Value("${app-specific-configs.storage.directory}") String storageDirectory) {
+        this.lookupImportJobLauncher = lookupImportJobLauncher;
+        this.auditorAware = auditorAware;
+        this.importDirectory = Paths.get(storageDirectory, "lookup-imports");
+    }
+
+    @Override
+    public LookupImportStatusDto execute(MultipartFile file) {
+        Path filePath = store(file);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString(LookupImportJobConfig.PARAM_FILE_PATH, filePath.toString())
+                .addString(LookupImportJobConfig.PARAM_REQUESTED_BY, auditorAware.getCurrentAuditor().orElse(null), false)
+                .addLong(LookupImportJobConfig.PARAM_REQUESTED_AT, System.currentTimeMillis())
+                .toJobParameters();
+
+        try {
+            JobExecution jobExecution = lookupImportJobLauncher.run(jobParameters);
+            return LookupImportStatusDto.from(jobExecution);
+        } catch (Exception e) {
+            throw new IllegalStateException("Lookup import could not be started: " + e.getMessage(), e);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private Path store(MultipartFile file) {
+        try {
+            Files.createDirectories(importDirectory);
+            Path filePath = importDirectory.resolve(UUID.randomUUID() + ".csv").toAbsolutePath();
+            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            return filePath;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
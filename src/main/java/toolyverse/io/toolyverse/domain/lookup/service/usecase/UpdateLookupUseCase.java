@@ -2,15 +2,15 @@ package toolyverse.io.toolyverse.domain.lookup.service.usecase;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
 import toolyverse.io.toolyverse.domain.lookup.mapper.LookupMapper;
 import toolyverse.io.toolyverse.domain.lookup.model.parameter.UpdateLookupUseCaseParam;
 import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
-import toolyverse.io.toolyverse.infrastructure.config.cache.CacheNames;
-import toolyverse.io.toolyverse.infrastructure.config.cache.RedisCacheConfig;
 import toolyverse.io.toolyverse.infrastructure.usecase.UseCaseWithInput;
 
 
@@ -20,8 +20,8 @@ public class UpdateLookupUseCase implements UseCaseWithInput<UpdateLookupUseCase
 
     private final LookupRepository lookupRepository;
     private final LookupMapper lookupMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @CacheEvict(value = CacheNames.CACHE_ALL_LOOKUPS, allEntries = true, cacheManager = RedisCacheConfig.REDIS_CACHE_MANAGER_FIVE_MINUTES)
     @Override
     @Transactional
     public void execute(UpdateLookupUseCaseParam param) {
@@ -31,7 +31,9 @@ public class UpdateLookupUseCase implements UseCaseWithInput<UpdateLookupUseCase
 
         // Only update allowed fields (excluding code and parentCode)
         lookupMapper.updateEntityFromRequest(request, lookup);
-        lookupRepository.save(lookup);
+        // Flushed so auditing has stamped updatedAt/updatedBy before the event DTO is mapped.
+        var savedLookup = lookupRepository.saveAndFlush(lookup);
+        eventPublisher.publishEvent(new LookupChangedEvent(LookupChangeType.UPDATED, lookupMapper.toDto(savedLookup)));
     }
 
     private Lookup findLookupByCode(String code, String parentCode) {
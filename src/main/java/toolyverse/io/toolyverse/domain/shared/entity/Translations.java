@@ -0,0 +1,109 @@
+package toolyverse.io.toolyverse.domain.shared.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Immutable language code → text map backed by two sorted arrays.
+ * <p>
+ * Instances are shared between entities, DTOs and caches (see {@code TranslationsConverter}), so every
+ * mutator throws. To change translations, build a new instance and assign it.
+ */
+public final class Translations extends AbstractMap<String, String> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final Translations EMPTY = new Translations(new String[0], new String[0]);
+
+    private final String[] languages;
+    private final String[] texts;
+
+    private Translations(String[] languages, String[] texts) {
+        this.languages = languages;
+        this.texts = texts;
+    }
+
+    /**
+     * Copies {@code values}, skipping null keys and values. Non-string values are stored as their
+     * {@code toString()}.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Translations of(Map<String, ?> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        if (values instanceof Translations translations) {
+            return translations;
+        }
+
+        TreeMap<String, String> sorted = new TreeMap<>();
+        values.forEach((language, text) -> {
+            if (language != null && text != null) {
+                sorted.put(language, text.toString());
+            }
+        });
+        if (sorted.isEmpty()) {
+            return EMPTY;
+        }
+        return new Translations(sorted.keySet().toArray(String[]::new), sorted.values().toArray(String[]::new));
+    }
+
+    @Override
+    public String get(Object language) {
+        int index = indexOf(language);
+        return index < 0 ? null : texts[index];
+    }
+
+    @Override
+    public boolean containsKey(Object language) {
+        return indexOf(language) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return languages.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < languages.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= languages.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, String> entry = new SimpleImmutableEntry<>(languages[next], texts[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return languages.length;
+            }
+        };
+    }
+
+    private int indexOf(Object language) {
+        if (!(language instanceof String key)) {
+            return -1;
+        }
+        return Arrays.binarySearch(languages, key);
+    }
+}
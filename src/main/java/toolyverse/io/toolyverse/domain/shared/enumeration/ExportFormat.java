@@ -0,0 +1,18 @@
+package toolyverse.io.toolyverse.domain.shared.enumeration;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+}
@@ -0,0 +1,7 @@
+package toolyverse.io.toolyverse.domain.shared.enumeration;
+
+public enum PaginationMode {
+    OFFSET,
+    CURSOR,
+    SLICE
+}
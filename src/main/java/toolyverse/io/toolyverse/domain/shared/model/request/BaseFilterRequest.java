@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Sort;
+import toolyverse.io.toolyverse.domain.shared.enumeration.PaginationMode;
 
 import java.time.LocalDate;
 
@@ -45,6 +46,17 @@ public class BaseFilterRequest {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate endDate;
 
+    @Schema(description = "OFFSET uses page/size with exact totals; SLICE uses page/size and only reports hasNext; " +
+            "CURSOR seeks past the 'after' cursor and ignores page.", example = "OFFSET")
+    private PaginationMode paginationMode = PaginationMode.OFFSET;
+
+    @Schema(description = "Opaque cursor from the previous response's nextCursor (CURSOR mode only).")
+    @Size(max = 1024)
+    private String after;
+
+    @Schema(description = "In SLICE mode, also return a cached, possibly slightly stale total count.", example = "false")
+    private boolean withApproximateTotal = false;
+
     public Sort.Direction getSortDir() {
         return this.sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
     }
@@ -1,5 +1,9 @@
 package toolyverse.io.toolyverse.domain.shared.repository;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -10,8 +14,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import toolyverse.io.toolyverse.domain.shared.entity.BaseEntity;
 import toolyverse.io.toolyverse.domain.shared.enumeration.DeletedStatus;
+import toolyverse.io.toolyverse.domain.shared.model.request.BaseFilterRequest;
 import toolyverse.io.toolyverse.domain.shared.repository.specification.BaseSpecification;
+import toolyverse.io.toolyverse.domain.shared.repository.specification.KeysetCursor;
+import toolyverse.io.toolyverse.infrastructure.response.CursorSlice;
 
+import java.util.List;
 import java.util.Optional;
 
 @NoRepositoryBean
@@ -28,4 +36,34 @@ public interface BaseJpaRepository<T extends BaseEntity, ID> extends JpaReposito
         return findOne(spec);
     }
 
+    /**
+     * Offset pagination without the {@code COUNT(*)} query: reads {@code size + 1} rows to determine
+     * {@link Slice#hasNext()}. Implemented by {@link BaseJpaRepositoryImpl}.
+     */
+    Slice<T> findAllAsSlice(Specification<T> spec, Pageable pageable);
+
+    /**
+     * Keyset pagination: seeks past {@link BaseFilterRequest#getAfter()} on {@code (sortBy, id)} and reads
+     * {@code size + 1} rows, so every page costs the same as the first one and no count query is issued.
+     */
+    default Slice<T> findAllByCursor(Specification<T> spec, BaseFilterRequest filter) {
+        String sortBy = filter.getSortBy();
+        Sort.Direction direction = filter.getSortDir();
+        int size = filter.getSize();
+
+        KeysetCursor cursor = KeysetCursor.decode(filter.getAfter(), sortBy, direction);
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+
+        List<T> rows = this.<T, List<T>>findBy(
+                spec.and(BaseSpecification.seekAfter(sortBy, direction, cursor)),
+                query -> query.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? KeysetCursor.of(sortBy, direction, content.getLast()).encode() : null;
+        return new CursorSlice<>(content, PageRequest.of(0, size, sort), hasNext, nextCursor, cursor != null);
+    }
+
 }
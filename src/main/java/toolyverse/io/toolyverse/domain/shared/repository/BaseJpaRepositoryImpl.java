@@ -0,0 +1,41 @@
+package toolyverse.io.toolyverse.domain.shared.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import toolyverse.io.toolyverse.domain.shared.entity.BaseEntity;
+
+import java.util.List;
+
+/**
+ * Repository base class registered for every {@link BaseJpaRepository}; hosts queries that need direct access
+ * to the underlying {@link TypedQuery}.
+ */
+public class BaseJpaRepositoryImpl<T extends BaseEntity, ID> extends SimpleJpaRepository<T, ID>
+        implements BaseJpaRepository<T, ID> {
+
+    public BaseJpaRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    @Override
+    public Slice<T> findAllAsSlice(Specification<T> spec, Pageable pageable) {
+        TypedQuery<T> query = getQuery(spec, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        // One extra row tells whether a next page exists, without a COUNT(*) round trip.
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+}
@@ -1,16 +1,27 @@
 package toolyverse.io.toolyverse.domain.shared.repository.specification;
 
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import toolyverse.io.toolyverse.domain.shared.enumeration.DeletedStatus;
+import toolyverse.io.toolyverse.infrastructure.util.TrigramIndex;
+import toolyverse.io.toolyverse.infrastructure.util.TurkishCharConverter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 public class BaseSpecification {
 
+    // Above this many candidates an IN list stops paying off against scanning the search column.
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
+    private static final char LIKE_ESCAPE = '\\';
+
     public static <T> Specification<T> like(String fieldName, String value) {
         return (root, query, cb) -> {
             if (value == null || value.isEmpty()) return null;
@@ -21,6 +32,29 @@ public class BaseSpecification {
         };
     }
 
+    /**
+     * Substring search on a persisted normalized column (see {@link TurkishCharConverter#toSearchKey}).
+     * When {@code index} can answer the query, the matching ids become an {@code id IN (...)} predicate.
+     * Otherwise the column is matched with {@code LIKE '%key%'}; that avoids a function call per row but
+     * still scans, since no B-tree index serves a leading wildcard. LIKE wildcards in the key are
+     * escaped, so {@code %} and {@code _} match literally.
+     */
+    public static <T, I> Specification<T> searchKeyContains(String searchKeyField, String value, TrigramIndex<I> index) {
+        return (root, query, cb) -> {
+            String searchKey = TurkishCharConverter.toSearchKey(value);
+            if (searchKey == null || searchKey.isEmpty()) return null;
+
+            Optional<Set<I>> candidates = index == null ? Optional.empty() : index.search(searchKey);
+            if (candidates.isPresent() && candidates.get().size() <= MAX_SEARCH_CANDIDATES) {
+                if (candidates.get().isEmpty()) {
+                    return cb.disjunction();
+                }
+                return root.get("id").in(candidates.get());
+            }
+            return cb.like(root.get(searchKeyField), "%" + escapeLike(searchKey) + "%", LIKE_ESCAPE);
+        };
+    }
+
     public static <T> Specification<T> equals(String fieldName, Object value) {
         return (root, query, cb) -> {
             if (value == null) return null;
@@ -63,4 +97,38 @@ public class BaseSpecification {
         };
     }
 
+    /**
+     * Keyset (seek) predicate selecting rows strictly after {@code cursor} in {@code (sortBy, id)} order.
+     * NULL sort keys are assumed to order lowest, as they do in MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seekAfter(String sortBy, Sort.Direction direction, KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            boolean ascending = direction.isAscending();
+
+            Path<Comparable> idPath = root.get("id");
+            Comparable id = KeysetCursor.parseKey(cursor.id(), idPath.getJavaType());
+            Predicate idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if ("id".equals(sortBy)) {
+                return idAfter;
+            }
+
+            Path<Comparable> sortPath = root.get(sortBy);
+            if (cursor.sortValue() == null) {
+                Predicate sameKey = cb.and(cb.isNull(sortPath), idAfter);
+                return ascending ? cb.or(sameKey, cb.isNotNull(sortPath)) : sameKey;
+            }
+
+            Comparable key = KeysetCursor.parseKey(cursor.sortValue(), sortPath.getJavaType());
+            Predicate keyAfter = ascending ? cb.greaterThan(sortPath, key) : cb.lessThan(sortPath, key);
+            Predicate sameKey = cb.and(cb.equal(sortPath, key), idAfter);
+            return ascending ? cb.or(keyAfter, sameKey) : cb.or(keyAfter, sameKey, cb.isNull(sortPath));
+        };
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
 }
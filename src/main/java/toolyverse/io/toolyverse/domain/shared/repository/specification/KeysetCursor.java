@@ -0,0 +1,91 @@
+package toolyverse.io.toolyverse.domain.shared.repository.specification;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil.buildException;
+
+/**
+ * Position of the last row of a keyset (seek) page: the sort key value plus the id used as tie-breaker,
+ * together with the sort field and direction it was produced for.
+ * <p>
+ * Clients only ever see the opaque, URL-safe {@link #encode() encoded} form.
+ * A {@code null} sort value is kept as {@code null} and handled by {@link BaseSpecification#seekAfter}.
+ */
+public record KeysetCursor(
+        String sortBy,
+        Sort.Direction direction,
+        String id,
+        String sortValue
+) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static KeysetCursor of(String sortBy, Sort.Direction direction, Object row) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        Object id = wrapper.getPropertyValue("id");
+        Object sortValue = wrapper.getPropertyValue(sortBy);
+        return new KeysetCursor(sortBy, direction, String.valueOf(id), sortValue != null ? sortValue.toString() : null);
+    }
+
+    /**
+     * Decodes a cursor produced for the same sort field and direction; returns {@code null} when no
+     * cursor was sent. Seeking with a cursor of the opposite direction would silently skip rows, so it
+     * is rejected like any other invalid cursor.
+     */
+    public static KeysetCursor decode(String encoded, String expectedSortBy, Sort.Direction expectedDirection) {
+        if (!StringUtils.hasText(encoded)) {
+            return null;
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw buildException(ExceptionMessage.INVALID_CURSOR_EXCEPTION);
+        }
+
+        // The sort value goes last because it is the only part that may contain the separator.
+        String[] parts = decoded.split(SEPARATOR, 4);
+        if (parts.length < 3 || !parts[0].equals(expectedSortBy) || !parts[1].equals(expectedDirection.name())) {
+            throw buildException(ExceptionMessage.INVALID_CURSOR_EXCEPTION);
+        }
+        return new KeysetCursor(parts[0], expectedDirection, parts[2], parts.length == 4 ? parts[3] : null);
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + (sortValue != null ? SEPARATOR + sortValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts a raw key back to the attribute's Java type so it can be compared in SQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparable<?> parseKey(String raw, Class<?> type) {
+        try {
+            if (type == String.class) return raw;
+            if (type == Long.class || type == long.class) return Long.valueOf(raw);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(raw);
+            if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(raw);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+            if (type == LocalDate.class) return LocalDate.parse(raw);
+            if (type == Instant.class) return Instant.parse(raw);
+            if (type == BigDecimal.class) return new BigDecimal(raw);
+            if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, raw);
+        } catch (RuntimeException e) {
+            throw buildException(ExceptionMessage.INVALID_CURSOR_EXCEPTION);
+        }
+        throw buildException(ExceptionMessage.INVALID_CURSOR_EXCEPTION);
+    }
+}
@@ -0,0 +1,138 @@
+package toolyverse.io.toolyverse.domain.toggle.client;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleSnapshotDto;
+import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves {@link #isEnabled(String, String)} from local per-environment snapshots of a remote toggle
+ * service, so checking a toggle never makes a remote call.
+ * <p>
+ * Snapshots are refreshed in the background with conditional requests: an unchanged environment
+ * costs a 304 without a body. If a refresh fails, the last snapshot keeps serving.
+ * <p>
+ * Configured environments are always polled. Other environments are picked up on first use and answer
+ * false until their first refresh; at most {@code max-discovered-environments} of them are polled, and
+ * one that goes unused for {@code discovered-environment-idle-timeout} is dropped with its snapshot,
+ * so arbitrary environment codes cannot grow the polled set without bound.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app-specific-configs.toggle-client", name = "enabled", havingValue = "true")
+public class CachingToggleClient {
+
+    private final ToggleClient toggleClient;
+    private final Map<String, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> configuredEnvironments;
+    private final Map<String, DiscoveredEnvironment> discoveredEnvironments = new ConcurrentHashMap<>();
+    private final int maxDiscoveredEnvironments;
+    private final long idleTimeoutNanos;
+
+    public CachingToggleClient(ToggleClient toggleClient, ToggleClientProperties properties) {
+        this.toggleClient = toggleClient;
+        this.configuredEnvironments = Set.copyOf(properties.getEnvironments());
+        this.maxDiscoveredEnvironments = properties.getMaxDiscoveredEnvironments();
+        this.idleTimeoutNanos = properties.getDiscoveredEnvironmentIdleTimeout().toNanos();
+    }
+
+    public boolean isEnabled(String toggleKey, String environmentCode) {
+        if (toggleKey == null || environmentCode == null) {
+            return false;
+        }
+        DiscoveredEnvironment discovered = discoveredEnvironments.get(environmentCode);
+        if (discovered != null) {
+            discovered.lastUsedNanos = System.nanoTime();
+        }
+        CachedSnapshot snapshot = snapshots.get(environmentCode);
+        if (snapshot == null) {
+            if (discovered == null) {
+                discover(environmentCode);
+            }
+            return false;
+        }
+        return snapshot.enabledKeys().contains(toggleKey);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app-specific-configs.toggle-client.refresh-interval:PT15S}")
+    public void refresh() {
+        configuredEnvironments.forEach(this::refresh);
+
+        long now = System.nanoTime();
+        discoveredEnvironments.forEach((environmentCode, discovered) -> {
+            if (now - discovered.lastUsedNanos > idleTimeoutNanos) {
+                discoveredEnvironments.remove(environmentCode);
+                snapshots.remove(environmentCode);
+                log.debug("Stopped polling idle toggle environment '{}'", environmentCode);
+            } else {
+                refresh(environmentCode);
+            }
+        });
+    }
+
+    // --- Private Helper Methods ---
+
+    private void discover(String environmentCode) {
+        if (configuredEnvironments.contains(environmentCode)) {
+            return;
+        }
+        // The bound is approximate under concurrent discovery, which is fine for its purpose.
+        if (discoveredEnvironments.size() >= maxDiscoveredEnvironments) {
+            log.debug("Not polling toggle environment '{}', {} environments are discovered already",
+                    environmentCode, maxDiscoveredEnvironments);
+            return;
+        }
+        discoveredEnvironments.putIfAbsent(environmentCode, new DiscoveredEnvironment(System.nanoTime()));
+    }
+
+    private void refresh(String environmentCode) {
+        CachedSnapshot current = snapshots.get(environmentCode);
+        try {
+            ResponseEntity<ApiResponseWrapper<ToggleSnapshotDto>> response =
+                    toggleClient.getSnapshot(environmentCode, current != null ? current.eTag() : null);
+            ApiResponseWrapper<ToggleSnapshotDto> body = response.getBody();
+            if (body == null || body.getData() == null) {
+                return;
+            }
+            snapshots.put(environmentCode, new CachedSnapshot(
+                    response.getHeaders().getFirst(HttpHeaders.ETAG), Set.copyOf(body.getData().enabledKeys())));
+            log.debug("Refreshed toggle snapshot of environment '{}' to version {}", environmentCode, body.getData().version());
+        } catch (FeignException e) {
+            if (e.status() != HttpStatus.NOT_MODIFIED.value()) {
+                log.warn("Failed to refresh toggle snapshot of environment '{}': {}", environmentCode, e.getMessage());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh toggle snapshot of environment '{}': {}", environmentCode, e.getMessage());
+        }
+    }
+
+    private record CachedSnapshot(String eTag, Set<String> enabledKeys) {
+    }
+
+    private static final class DiscoveredEnvironment {
+
+        // Written on every evaluation; only read by the refresh.
+        private volatile long lastUsedNanos;
+
+        private DiscoveredEnvironment(long lastUsedNanos) {
+            this.lastUsedNanos = lastUsedNanos;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package toolyverse.io.toolyverse.domain.toggle.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleSnapshotDto;
+import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
+
+/**
+ * Remote access to a toggle service's per-environment snapshot. Prefer {@link CachingToggleClient},
+ * which keeps the snapshots local and refreshes them in the background.
+ * <p>
+ * A 304 response surfaces as a {@code FeignException} with status 304.
+ */
+@FeignClient(name = "toggle-client", url = "${app-specific-configs.toggle-client.base-url:http://localhost:8080}")
+public interface ToggleClient {
+
+    @GetMapping("/api/v1/toggles/snapshot")
+    ResponseEntity<ApiResponseWrapper<ToggleSnapshotDto>> getSnapshot(
+            @RequestParam("environment") String environment,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+}
@@ -0,0 +1,22 @@
+package toolyverse.io.toolyverse.domain.toggle.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The refresh interval, {@code refresh-interval}, is read by the {@code @Scheduled} placeholder in
+ * {@link CachingToggleClient} and therefore not bound here.
+ */
+@Data
+@ConfigurationProperties(prefix = "app-specific-configs.toggle-client")
+public class ToggleClientProperties {
+    private boolean enabled = false;
+    private String baseUrl;
+    private List<String> environments = new ArrayList<>();
+    private int maxDiscoveredEnvironments = 16;
+    private Duration discoveredEnvironmentIdleTimeout = Duration.ofMinutes(30);
+}
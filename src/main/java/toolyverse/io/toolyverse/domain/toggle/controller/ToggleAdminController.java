@@ -0,0 +1,41 @@
+package toolyverse.io.toolyverse.domain.toggle.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import toolyverse.io.toolyverse.domain.toggle.event.producer.ToggleChangeProducer;
+import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
+
+@RestController
+@RequestMapping("/api/v1/admin/toggles")
+@RequiredArgsConstructor
+@Tag(name = "Toggle Administration", description = "Admin APIs for toggle state propagation.")
+public class ToggleAdminController {
+
+    private final ToggleChangeProducer toggleChangeProducer;
+
+    // --- Controller Endpoints ---
+
+    @Operation(summary = "Republish all toggles", description = "Publishes the current state of every toggle to the toggle-changes topic. Run once to seed the topic with existing toggles, or to repair it.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Number of toggles published.", content = @Content(schema = @Schema(implementation = ToggleCountResponse.class)))
+    })
+    @PostMapping("/republish")
+    public ResponseEntity<ApiResponseWrapper<Integer>> republishToggles() {
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggleChangeProducer.publishAll()));
+    }
+
+    // --- OpenAPI Schema Helper Classes ---
+
+    @Schema(name = "ToggleCountResponse", description = "API response containing a number of toggles.")
+    public static class ToggleCountResponse extends ApiResponseWrapper<Integer> {
+    }
+}
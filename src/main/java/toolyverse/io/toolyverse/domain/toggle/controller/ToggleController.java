@@ -0,0 +1,251 @@
+package toolyverse.io.toolyverse.domain.toggle.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import toolyverse.io.toolyverse.domain.shared.enumeration.ExportFormat;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ScheduledToggleChangeDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEvaluationDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleSnapshotDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.model.request.CreateToggleCommandRequest;
+import toolyverse.io.toolyverse.domain.toggle.model.request.EvaluateTogglesRequest;
+import toolyverse.io.toolyverse.domain.toggle.model.request.ScheduleToggleChangeRequest;
+import toolyverse.io.toolyverse.domain.toggle.model.request.UpdateToggleCommandRequest;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleCommandService;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleEvaluationService;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleEvaluator;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleExportService;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleScheduleService;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleService;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleStreamService;
+import toolyverse.io.toolyverse.infrastructure.response.ApiResponseWrapper;
+import toolyverse.io.toolyverse.infrastructure.response.PageableResponse;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/toggles")
+@RequiredArgsConstructor
+@Tag(name = "Toggle Management", description = "APIs for managing feature toggles and their environments.")
+public class ToggleController {
+
+    private final ToggleExportService toggleExportService;
+    private final ToggleCommandService toggleCommandService;
+    private final ToggleEvaluator toggleEvaluator;
+    private final ToggleService toggleService;
+    private final ToggleStreamService toggleStreamService;
+    private final ToggleEvaluationService toggleEvaluationService;
+    private final ToggleScheduleService toggleScheduleService;
+
+    // --- Controller Endpoints ---
+
+    @Operation(summary = "Create a new toggle", description = "Creates a feature toggle attached to the given environments.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Toggle created successfully.", content = @Content(schema = @Schema(implementation = ToggleResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Environment not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class))),
+            @ApiResponse(responseCode = "409", description = "Toggle key already exists.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponseWrapper<ToggleWithEnvironmentsDto>> createToggle(@Valid @RequestBody CreateToggleCommandRequest request) {
+        ToggleWithEnvironmentsDto toggle = toggleCommandService.create(request);
+        return new ResponseEntity<>(ApiResponseWrapper.success(toggle), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Update a toggle", description = "Switches a toggle, changes its description or replaces its environments.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Toggle updated successfully.", content = @Content(schema = @Schema(implementation = ToggleResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Toggle or environment not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PutMapping("/{toggleKey}")
+    public ResponseEntity<ApiResponseWrapper<ToggleWithEnvironmentsDto>> updateToggle(
+            @Parameter(description = "Key of the toggle to update.", required = true, example = "NEW_CHECKOUT") @PathVariable String toggleKey,
+            @Valid @RequestBody UpdateToggleCommandRequest request) {
+        ToggleWithEnvironmentsDto toggle = toggleCommandService.update(toggleKey, request);
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggle));
+    }
+
+    @Operation(summary = "Delete a toggle", description = "Deletes a toggle by its key. This performs a soft delete.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Toggle deleted successfully.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class))),
+            @ApiResponse(responseCode = "404", description = "Toggle not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @DeleteMapping("/{toggleKey}")
+    public ResponseEntity<ApiResponseWrapper<Object>> deleteToggle(
+            @Parameter(description = "Key of the toggle to delete.", required = true, example = "NEW_CHECKOUT") @PathVariable String toggleKey) {
+        toggleCommandService.delete(toggleKey);
+        return ResponseEntity.ok(ApiResponseWrapper.successWithEmptyData());
+    }
+
+    @Operation(summary = "Schedule a toggle change", description = "Switches the toggle on or off at the given time. The change is fired from memory at that time and applied by exactly one node.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Change scheduled.", content = @Content(schema = @Schema(implementation = ScheduledToggleChangeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request body.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class))),
+            @ApiResponse(responseCode = "404", description = "Toggle not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PostMapping("/{toggleKey}/schedules")
+    public ResponseEntity<ApiResponseWrapper<ScheduledToggleChangeDto>> scheduleToggleChange(
+            @Parameter(description = "Key of the toggle to change.", required = true, example = "NEW_CHECKOUT") @PathVariable String toggleKey,
+            @Valid @RequestBody ScheduleToggleChangeRequest request) {
+        ScheduledToggleChangeDto change = toggleScheduleService.schedule(toggleKey, request);
+        return new ResponseEntity<>(ApiResponseWrapper.success(change), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Get pending toggle changes", description = "Lists the scheduled changes of a toggle that have not been applied yet, earliest first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pending changes retrieved.", content = @Content(schema = @Schema(implementation = ScheduledToggleChangeListResponse.class)))
+    })
+    @GetMapping("/{toggleKey}/schedules")
+    public ResponseEntity<ApiResponseWrapper<List<ScheduledToggleChangeDto>>> getPendingToggleChanges(
+            @Parameter(description = "Key of the toggle.", required = true, example = "NEW_CHECKOUT") @PathVariable String toggleKey) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggleScheduleService.findPending(toggleKey)));
+    }
+
+    @Operation(summary = "Cancel a scheduled toggle change", description = "Cancels a change that has not been applied yet.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Change cancelled.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class))),
+            @ApiResponse(responseCode = "404", description = "Pending change not found.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @DeleteMapping("/schedules/{scheduleId}")
+    public ResponseEntity<ApiResponseWrapper<Object>> cancelToggleChange(
+            @Parameter(description = "ID of the scheduled change.", required = true, example = "1") @PathVariable Long scheduleId) {
+        toggleScheduleService.cancel(scheduleId);
+        return ResponseEntity.ok(ApiResponseWrapper.successWithEmptyData());
+    }
+
+    @Operation(summary = "Get all toggles with their environments", description = "Retrieves a paginated list of non-deleted toggles, each with its environments.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Toggles retrieved successfully.", content = @Content(schema = @Schema(implementation = TogglePageResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponseWrapper<PageableResponse<ToggleWithEnvironmentsDto>>> getAllToggles(
+            @ParameterObject @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        Page<ToggleWithEnvironmentsDto> togglesPage = toggleService.findAllTogglesWithEnvironments(pageable);
+        return ResponseEntity.ok(ApiResponseWrapper.success(togglesPage));
+    }
+
+    @Operation(summary = "Evaluate a toggle", description = "Returns whether the toggle is enabled in the given environment, answered from memory.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Evaluation result; unknown toggles and environments evaluate to false.", content = @Content(schema = @Schema(implementation = ToggleEvaluationResponse.class)))
+    })
+    @GetMapping("/{toggleKey}/evaluate")
+    public ResponseEntity<ApiResponseWrapper<Boolean>> evaluateToggle(
+            @Parameter(description = "Key of the toggle to evaluate.", required = true, example = "NEW_CHECKOUT") @PathVariable String toggleKey,
+            @Parameter(description = "Environment code.", required = true, example = "PROD") @RequestParam String environment) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggleEvaluator.isEnabled(toggleKey, environment)));
+    }
+
+    @Operation(summary = "Evaluate many toggles", description = "Evaluates the given toggle keys, or all toggles if none are given, in one environment against a single consistent snapshot. Use format=BITMAP for very large sets.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Evaluation results; unknown toggles and environments evaluate to false.", content = @Content(schema = @Schema(implementation = ToggleBulkEvaluationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request body.", content = @Content(schema = @Schema(implementation = ApiResponseWrapper.class)))
+    })
+    @PostMapping("/evaluate")
+    public ResponseEntity<ApiResponseWrapper<ToggleEvaluationDto>> evaluateToggles(@Valid @RequestBody EvaluateTogglesRequest request) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggleEvaluationService.evaluate(request)));
+    }
+
+    @Operation(summary = "List toggles enabled in an environment", description = "Returns the keys of all toggles enabled in the given environment, answered from memory.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Enabled toggle keys; an unknown environment yields an empty list.", content = @Content(schema = @Schema(implementation = ToggleKeyListResponse.class)))
+    })
+    @GetMapping("/enabled")
+    public ResponseEntity<ApiResponseWrapper<List<String>>> getEnabledToggles(
+            @Parameter(description = "Environment code.", required = true, example = "PROD") @RequestParam String environment) {
+        return ResponseEntity.ok(ApiResponseWrapper.success(toggleEvaluator.findEnabledToggleKeys(environment)));
+    }
+
+    @Operation(summary = "Get an environment's toggle snapshot", description = "Returns every toggle key enabled in the environment. Supports conditional requests: send the returned ETag as If-None-Match to get 304 when nothing changed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot returned.", content = @Content(schema = @Schema(implementation = ToggleSnapshotResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the given ETag.")
+    })
+    @GetMapping("/snapshot")
+    public ResponseEntity<ApiResponseWrapper<ToggleSnapshotDto>> getToggleSnapshot(
+            @Parameter(description = "Environment code.", required = true, example = "PROD") @RequestParam String environment,
+            WebRequest webRequest) {
+        ToggleSnapshotDto snapshot = toggleEvaluationService.snapshot(environment);
+        String eTag = "\"" + snapshot.version() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseWrapper.success(snapshot));
+    }
+
+    @Operation(summary = "Subscribe to toggle changes", description = "Opens a Server-Sent Events stream for one environment: a 'snapshot' event with the enabled toggle keys, then a 'change' event with enabled and disabled keys whenever that environment is affected.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event stream opened.")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamToggleChanges(
+            @Parameter(description = "Environment code.", required = true, example = "PROD") @RequestParam String environment) {
+        return toggleStreamService.subscribe(environment);
+    }
+
+    @Operation(summary = "Export all toggles", description = "Streams every non-deleted toggle with its environment codes as NDJSON or CSV.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export stream started.")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportToggles(
+            @Parameter(description = "Export format.", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> toggleExportService.export(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("toggles." + format.getFileExtension()).build().toString())
+                .body(body);
+    }
+
+    // --- OpenAPI Schema Helper Classes ---
+
+    @Schema(name = "ToggleResponse", description = "API response containing a single toggle with its environments.")
+    public static class ToggleResponse extends ApiResponseWrapper<ToggleWithEnvironmentsDto> {
+    }
+
+    @Schema(name = "TogglePageResponse", description = "API response containing a paginated list of toggles.")
+    public static class TogglePageResponse extends ApiResponseWrapper<PageableResponse<ToggleWithEnvironmentsDto>> {
+    }
+
+    @Schema(name = "ToggleKeyListResponse", description = "API response containing a list of toggle keys.")
+    public static class ToggleKeyListResponse extends ApiResponseWrapper<List<String>> {
+    }
+
+    @Schema(name = "ToggleBulkEvaluationResponse", description = "API response containing bulk toggle evaluation results.")
+    public static class ToggleBulkEvaluationResponse extends ApiResponseWrapper<ToggleEvaluationDto> {
+    }
+
+    @Schema(name = "ToggleSnapshotResponse", description = "API response containing the enabled toggles of one environment.")
+    public static class ToggleSnapshotResponse extends ApiResponseWrapper<ToggleSnapshotDto> {
+    }
+
+    @Schema(name = "ScheduledToggleChangeResponse", description = "API response containing a scheduled toggle change.")
+    public static class ScheduledToggleChangeResponse extends ApiResponseWrapper<ScheduledToggleChangeDto> {
+    }
+
+    @Schema(name = "ScheduledToggleChangeListResponse", description = "API response containing a list of scheduled toggle changes.")
+    public static class ScheduledToggleChangeListResponse extends ApiResponseWrapper<List<ScheduledToggleChangeDto>> {
+    }
+
+    @Schema(name = "ToggleEvaluationResponse", description = "API response containing a toggle evaluation result.")
+    public static class ToggleEvaluationResponse extends ApiResponseWrapper<Boolean> {
+    }
+}
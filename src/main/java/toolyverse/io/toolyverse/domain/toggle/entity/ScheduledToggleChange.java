@@ -0,0 +1,77 @@
+package toolyverse.io.toolyverse.domain.toggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.proxy.HibernateProxy;
+import toolyverse.io.toolyverse.domain.shared.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Switches a toggle on or off at {@code effectiveAt}. {@code appliedAt} is set exactly once, by the
+ * node that claims the change; a deleted (cancelled) change is never applied.
+ */
+@Entity
+@Table(name = "scheduled_toggle_changes",
+        indexes = {
+                @Index(name = "idx_scheduled_toggle_pending", columnList = "applied_at, effective_at"),
+                @Index(name = "idx_scheduled_toggle_key", columnList = "toggle_key"),
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@SQLDelete(sql = "UPDATE scheduled_toggle_changes SET deleted_at = now() WHERE id = ?")
+public class ScheduledToggleChange extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "toggle_key", nullable = false, length = 100)
+    private String toggleKey;
+
+    @Column(name = "target_enabled", nullable = false)
+    private Boolean targetEnabled;
+
+    @Column(name = "effective_at", nullable = false)
+    private LocalDateTime effectiveAt;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "id=" + id +
+                ", toggleKey='" + toggleKey + '\'' +
+                ", targetEnabled=" + targetEnabled +
+                ", effectiveAt=" + effectiveAt +
+                ", appliedAt=" + appliedAt +
+                '}';
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ?
+                ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ?
+                ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        ScheduledToggleChange change = (ScheduledToggleChange) o;
+        return getId() != null && Objects.equals(getId(), change.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ?
+                ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() :
+                getClass().hashCode();
+    }
+}
@@ -0,0 +1,69 @@
+package toolyverse.io.toolyverse.domain.toggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.proxy.HibernateProxy;
+import toolyverse.io.toolyverse.domain.shared.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Evaluation counts of one toggle in one environment over one flush period of one node.
+ * Totals across nodes and periods are sums over these rows.
+ */
+@Entity
+@Table(name = "toggle_evaluation_reports",
+        indexes = {
+                @Index(name = "idx_toggle_eval_report_key_period", columnList = "toggle_key, period_end"),
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class ToggleEvaluationReport extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "toggle_key", nullable = false, length = 100)
+    private String toggleKey;
+
+    @Column(name = "environment_code", nullable = false, length = 100)
+    private String environmentCode;
+
+    @Column(name = "enabled_count", nullable = false)
+    private Long enabledCount;
+
+    @Column(name = "disabled_count", nullable = false)
+    private Long disabledCount;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDateTime periodEnd;
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ?
+                ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ?
+                ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        ToggleEvaluationReport report = (ToggleEvaluationReport) o;
+        return getId() != null && Objects.equals(getId(), report.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ?
+                ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() :
+                getClass().hashCode();
+    }
+}
@@ -0,0 +1,7 @@
+package toolyverse.io.toolyverse.domain.toggle.enumeration;
+
+public enum ToggleChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
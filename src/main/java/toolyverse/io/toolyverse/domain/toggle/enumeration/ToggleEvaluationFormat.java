@@ -0,0 +1,12 @@
+package toolyverse.io.toolyverse.domain.toggle.enumeration;
+
+public enum ToggleEvaluationFormat {
+    /**
+     * A key to boolean map.
+     */
+    MAP,
+    /**
+     * The evaluated keys plus a bitmap of their results, for very large sets.
+     */
+    BITMAP
+}
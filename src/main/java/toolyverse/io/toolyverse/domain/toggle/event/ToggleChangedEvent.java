@@ -0,0 +1,16 @@
+package toolyverse.io.toolyverse.domain.toggle.event;
+
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleChangeType;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+
+/**
+ * Published by {@code ToggleCommandService} inside its transaction.
+ * Listeners react after commit, so {@code toggle} always reflects persisted state.
+ * {@code toggle} is null for {@link ToggleChangeType#DELETED}.
+ */
+public record ToggleChangedEvent(
+        ToggleChangeType type,
+        String toggleKey,
+        ToggleWithEnvironmentsDto toggle
+) {
+}
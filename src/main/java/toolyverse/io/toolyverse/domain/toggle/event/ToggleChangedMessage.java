@@ -0,0 +1,69 @@
+package toolyverse.io.toolyverse.domain.toggle.event;
+
+import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Full evaluation state of one toggle, as carried on the compacted {@code toggle-changes} topic under
+ * the toggle key. A deleted toggle is published as a tombstone (null value) instead.
+ * <p>
+ * {@code version} is the toggle's last-modified time in epoch millis. It is stamped by whichever node
+ * wrote the toggle, so it is only compared between writes of the same node; the topic itself is
+ * applied in offset order.
+ */
+public record ToggleChangedMessage(
+        String toggleKey,
+        boolean isEnabled,
+        List<String> environmentCodes,
+        long version
+) {
+
+    public static ToggleChangedMessage of(ToggleWithEnvironmentsDto toggle) {
+        List<String> environmentCodes = toggle.getEnvironments().stream()
+                .map(EnvironmentDto::getCode)
+                .sorted()
+                .toList();
+        return new ToggleChangedMessage(toggle.getToggleKey(), Boolean.TRUE.equals(toggle.getIsEnabled()),
+                environmentCodes, toVersion(toggle.getUpdatedAt()));
+    }
+
+    /**
+     * Groups flattened rows, which must be ordered by toggle id, into one message per toggle.
+     */
+    public static List<ToggleChangedMessage> fromRows(List<ToggleEnvironmentRow> rows) {
+        List<ToggleChangedMessage> messages = new ArrayList<>();
+        ToggleEnvironmentRow current = null;
+        List<String> environmentCodes = new ArrayList<>();
+        for (ToggleEnvironmentRow row : rows) {
+            if (current != null && !current.toggleId().equals(row.toggleId())) {
+                messages.add(fromRow(current, environmentCodes));
+                environmentCodes = new ArrayList<>();
+            }
+            current = row;
+            if (row.environmentCode() != null) {
+                environmentCodes.add(row.environmentCode());
+            }
+        }
+        if (current != null) {
+            messages.add(fromRow(current, environmentCodes));
+        }
+        return messages;
+    }
+
+    // --- Private Helper Methods ---
+
+    private static ToggleChangedMessage fromRow(ToggleEnvironmentRow row, List<String> environmentCodes) {
+        return new ToggleChangedMessage(row.toggleKey(), Boolean.TRUE.equals(row.isEnabled()),
+                List.copyOf(environmentCodes), toVersion(row.updatedAt()));
+    }
+
+    private static long toVersion(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,10 @@
+package toolyverse.io.toolyverse.domain.toggle.event;
+
+/**
+ * Published when a scheduled toggle change is created or cancelled, so every node can refresh the
+ * changes it keeps on its timing wheel.
+ */
+public record ToggleScheduleChangedEvent(
+        Long scheduleId
+) {
+}
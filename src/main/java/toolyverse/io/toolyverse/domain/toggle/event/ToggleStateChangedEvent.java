@@ -0,0 +1,14 @@
+package toolyverse.io.toolyverse.domain.toggle.event;
+
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEnvironmentChangeDto;
+
+import java.util.List;
+
+/**
+ * Published by {@code ToggleEvaluator} on every node after it swapped in a snapshot whose effective
+ * state differs from the previous one; only environments with changes are listed.
+ */
+public record ToggleStateChangedEvent(
+        List<ToggleEnvironmentChangeDto> changes
+) {
+}
@@ -0,0 +1,49 @@
+package toolyverse.io.toolyverse.domain.toggle.event;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+@Configuration
+public class ToggleTopicConfig {
+
+    public static final String TOGGLE_CHANGES_TOPIC = "toggle-changes";
+    // Keep in sync with TOGGLE_CHANGES_PARTITION_RANGE, which listeners assign manually.
+    public static final int TOGGLE_CHANGES_PARTITIONS = 3;
+    public static final String TOGGLE_CHANGES_PARTITION_RANGE = "0-2";
+    public static final String TOGGLE_CHANGES_CONTAINER_FACTORY = "toggleChangesContainerFactory";
+
+    /**
+     * Compacted, so the topic always holds the latest state of every toggle and a fresh node can
+     * rebuild its view by replaying it.
+     */
+    @Bean
+    public NewTopic toggleChangesTopic() {
+        return TopicBuilder.name(TOGGLE_CHANGES_TOPIC)
+                .partitions(TOGGLE_CHANGES_PARTITIONS)
+                .compact()
+                .build();
+    }
+
+    /**
+     * For listeners that assign partitions manually and replay them from offset 0 on every start. They
+     * never join a consumer group and never commit, so no group is left behind when a node goes away.
+     */
+    @Bean(TOGGLE_CHANGES_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> toggleChangesContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        // Nothing is ever acknowledged, so offsets are never committed.
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAssignmentCommitOption(ContainerProperties.AssignmentCommitOption.NEVER);
+        return factory;
+    }
+}
@@ -0,0 +1,87 @@
+package toolyverse.io.toolyverse.domain.toggle.event.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedMessage;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleTopicConfig;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleEvaluator;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds every node's {@link ToggleEvaluator} from the compacted {@code toggle-changes} topic.
+ * <p>
+ * Each node assigns itself every partition and reads from offset 0 without joining a consumer group,
+ * so a fresh node rebuilds the full toggle state from the topic instead of scanning {@code toggles}
+ * and {@code toggle_environments}, and no per-node group is left behind. Records are applied a poll
+ * batch at a time, so a replay costs one snapshot rebuild per batch rather than one per toggle.
+ * <p>
+ * The end offsets are read when partitions are assigned; once the consumer's position reached them on
+ * every partition the evaluator is told that the replay caught up and starts serving the topic state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToggleChangeConsumer implements ConsumerSeekAware {
+
+    private final ToggleEvaluator toggleEvaluator;
+    private final ConsumerFactory<Object, Object> consumerFactory;
+
+    // Partitions still being replayed, with the end offset to reach; only touched by the consumer thread.
+    private Map<TopicPartition, Long> replayEndOffsets = Map.of();
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = ToggleTopicConfig.TOGGLE_CHANGES_TOPIC,
+                    partitions = ToggleTopicConfig.TOGGLE_CHANGES_PARTITION_RANGE,
+                    partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")
+            ),
+            containerFactory = ToggleTopicConfig.TOGGLE_CHANGES_CONTAINER_FACTORY,
+            batch = "true"
+    )
+    public void onToggleChanges(List<ConsumerRecord<String, ToggleChangedMessage>> records, Consumer<?, ?> consumer) {
+        // Records arrive in offset order per partition, so later records for the same key win; a null
+        // value is a deletion.
+        Map<String, ToggleChangedMessage> changes = new LinkedHashMap<>(records.size() * 2);
+        records.forEach(record -> changes.put(record.key(), record.value()));
+        log.debug("Applying {} toggle changes from {} records", changes.size(), records.size());
+        toggleEvaluator.applyChanges(changes);
+
+        if (!replayEndOffsets.isEmpty()) {
+            replayEndOffsets.entrySet().removeIf(end -> consumer.position(end.getKey()) >= end.getValue());
+            markCaughtUpIfReplayed();
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(@NonNull Map<TopicPartition, Long> assignments, @NonNull ConsumerSeekCallback callback) {
+        // A separate consumer, so the lookup does not disturb the listener's own fetch position.
+        try (Consumer<Object, Object> offsetConsumer = consumerFactory.createConsumer()) {
+            Map<TopicPartition, Long> beginningOffsets = offsetConsumer.beginningOffsets(assignments.keySet());
+            Map<TopicPartition, Long> endOffsets = new HashMap<>(offsetConsumer.endOffsets(assignments.keySet()));
+            endOffsets.entrySet().removeIf(end -> end.getValue() <= beginningOffsets.getOrDefault(end.getKey(), 0L));
+            replayEndOffsets = endOffsets;
+        }
+        markCaughtUpIfReplayed();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void markCaughtUpIfReplayed() {
+        if (replayEndOffsets.isEmpty()) {
+            toggleEvaluator.markCaughtUp();
+        }
+    }
+}
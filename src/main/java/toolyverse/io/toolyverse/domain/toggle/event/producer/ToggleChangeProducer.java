@@ -0,0 +1,81 @@
+package toolyverse.io.toolyverse.domain.toggle.event.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleChangeType;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedMessage;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleTopicConfig;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+
+import java.util.List;
+
+/**
+ * Publishes the state of every changed toggle to the compacted {@code toggle-changes} topic, keyed by
+ * toggle key. Deletions are published as tombstones so compaction eventually drops the key.
+ * <p>
+ * Sends are not retried; a failed send is logged and repaired by the evaluators' periodic resync, or
+ * at once by {@link #publishAll()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToggleChangeProducer {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ToggleRepository toggleRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onToggleChanged(ToggleChangedEvent event) {
+        if (event.type() == ToggleChangeType.DELETED) {
+            send(event.toggleKey(), null);
+        } else {
+            send(event.toggleKey(), ToggleChangedMessage.of(event.toggle()));
+        }
+    }
+
+    // A deleted environment changes the effective state of the toggles attached to it; any other
+    // deleted lookup matches no toggle and publishes nothing.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        if (event.type() != LookupChangeType.DELETED || event.lookup() == null) {
+            return;
+        }
+        List<ToggleChangedMessage> messages = ToggleChangedMessage.fromRows(
+                toggleRepository.findAllWithEnvironmentCodesByEnvironmentId(event.lookup().getId()));
+        messages.forEach(message -> send(message.toggleKey(), message));
+        if (!messages.isEmpty()) {
+            log.info("Republished {} toggles after environment '{}' was deleted", messages.size(), event.lookup().getCode());
+        }
+    }
+
+    /**
+     * Publishes the current state of every toggle. Used to seed the topic with toggles that predate
+     * it and to repair it; consumers treat repeated states as no-ops.
+     */
+    @Transactional(readOnly = true)
+    public int publishAll() {
+        List<ToggleChangedMessage> messages = ToggleChangedMessage.fromRows(toggleRepository.findAllWithEnvironmentCodes());
+        messages.forEach(message -> send(message.toggleKey(), message));
+        log.info("Published {} toggles to {}", messages.size(), ToggleTopicConfig.TOGGLE_CHANGES_TOPIC);
+        return messages.size();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void send(String toggleKey, ToggleChangedMessage message) {
+        kafkaTemplate.send(ToggleTopicConfig.TOGGLE_CHANGES_TOPIC, toggleKey, message)
+                .whenComplete((_, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish change of toggle '{}'", toggleKey, ex);
+                    }
+                });
+    }
+}
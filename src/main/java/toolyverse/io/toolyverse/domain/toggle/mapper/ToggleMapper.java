@@ -0,0 +1,19 @@
+package toolyverse.io.toolyverse.domain.toggle.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.toggle.entity.Toggle;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+
+@Mapper(
+        componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface ToggleMapper {
+
+    ToggleWithEnvironmentsDto toDto(Toggle toggle);
+
+    EnvironmentDto toEnvironmentDto(Lookup environment);
+}
@@ -0,0 +1,12 @@
+package toolyverse.io.toolyverse.domain.toggle.model.dto;
+
+import java.time.LocalDateTime;
+
+public record ScheduledToggleChangeDto(
+        Long id,
+        String toggleKey,
+        Boolean targetEnabled,
+        LocalDateTime effectiveAt,
+        LocalDateTime appliedAt
+) {
+}
@@ -0,0 +1,13 @@
+package toolyverse.io.toolyverse.domain.toggle.model.dto;
+
+import java.util.List;
+
+/**
+ * The toggles that became enabled or disabled in one environment between two evaluator snapshots.
+ */
+public record ToggleEnvironmentChangeDto(
+        String environmentCode,
+        List<String> enabledKeys,
+        List<String> disabledKeys
+) {
+}
@@ -0,0 +1,25 @@
+package toolyverse.io.toolyverse.domain.toggle.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk evaluation. Either {@code results} is set (MAP form), or {@code keys} and
+ * {@code bitmap} are (BITMAP form): bit {@code i} of the little-endian, base64-encoded bitmap is set
+ * when {@code keys[i]} is enabled.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ToggleEvaluationDto(
+        @Schema(description = "Environment the toggles were evaluated in.", example = "PROD")
+        String environment,
+        @Schema(description = "Toggle key to enabled flag (MAP form).")
+        Map<String, Boolean> results,
+        @Schema(description = "Evaluated toggle keys, in bitmap order (BITMAP form).")
+        List<String> keys,
+        @Schema(description = "Base64 little-endian bitmap of the results (BITMAP form).", example = "BQ==")
+        String bitmap
+) {
+}
@@ -0,0 +1,12 @@
+package toolyverse.io.toolyverse.domain.toggle.model.dto;
+
+import java.util.List;
+
+public record ToggleExportDto(
+        Long id,
+        String toggleKey,
+        Boolean isEnabled,
+        String description,
+        List<String> environments
+) {
+}
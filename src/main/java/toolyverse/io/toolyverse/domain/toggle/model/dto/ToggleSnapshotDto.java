@@ -0,0 +1,14 @@
+package toolyverse.io.toolyverse.domain.toggle.model.dto;
+
+import java.util.List;
+
+/**
+ * All toggles enabled in one environment. {@code version} is derived from the content, so every node
+ * reports the same version for the same state and it can serve as an ETag.
+ */
+public record ToggleSnapshotDto(
+        String environment,
+        String version,
+        List<String> enabledKeys
+) {
+}
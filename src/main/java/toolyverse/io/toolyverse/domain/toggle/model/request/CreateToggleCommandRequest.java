@@ -0,0 +1,35 @@
+package toolyverse.io.toolyverse.domain.toggle.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request Object for creating a feature toggle.")
+public class CreateToggleCommandRequest {
+
+    @NotBlank(message = "Toggle key cannot be blank.")
+    @Size(min = 2, max = 100, message = "Toggle key must be between 2 and 100 characters.")
+    @Schema(description = "Unique key of the toggle.", example = "NEW_CHECKOUT", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String toggleKey;
+
+    @Schema(description = "Whether the toggle is switched on. Defaults to false if not provided.", example = "true")
+    private Boolean isEnabled;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters.")
+    @Schema(description = "Detailed description of the toggle.", example = "Enables the new checkout flow.")
+    private String description;
+
+    @Size(max = 100, message = "A toggle cannot have more than 100 environments.")
+    @Schema(description = "Lookup codes of the environments the toggle applies to.", example = "[\"DEV\", \"TEST\"]")
+    private List<String> environmentCodes;
+}
@@ -0,0 +1,32 @@
+package toolyverse.io.toolyverse.domain.toggle.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleEvaluationFormat;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request Object for evaluating many toggles in one environment.")
+public class EvaluateTogglesRequest {
+
+    @NotBlank(message = "Environment cannot be blank.")
+    @Schema(description = "Environment code to evaluate in.", example = "PROD", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String environment;
+
+    @Size(max = 5000, message = "At most 5000 toggle keys can be evaluated at once.")
+    @Schema(description = "Toggle keys to evaluate. Omit to evaluate all toggles.", example = "[\"NEW_CHECKOUT\", \"DARK_MODE\"]")
+    private List<String> keys;
+
+    @Builder.Default
+    @Schema(description = "Response form. BITMAP returns the keys and a base64 bitmap instead of a map.", example = "MAP")
+    private ToggleEvaluationFormat format = ToggleEvaluationFormat.MAP;
+}
@@ -0,0 +1,28 @@
+package toolyverse.io.toolyverse.domain.toggle.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request Object for switching a toggle on or off at a given time.")
+public class ScheduleToggleChangeRequest {
+
+    @NotNull(message = "Target state cannot be null.")
+    @Schema(description = "State the toggle switches to.", example = "true", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Boolean isEnabled;
+
+    @NotNull(message = "Effective time cannot be null.")
+    @Future(message = "Effective time must be in the future.")
+    @Schema(description = "Server-local time at which the change applies.", example = "2026-11-01T09:00:00", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDateTime effectiveAt;
+}
@@ -0,0 +1,30 @@
+package toolyverse.io.toolyverse.domain.toggle.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request Object for updating a feature toggle. Null fields are left unchanged.")
+public class UpdateToggleCommandRequest {
+
+    @Schema(description = "Whether the toggle is switched on.", example = "true")
+    private Boolean isEnabled;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters.")
+    @Schema(description = "Detailed description of the toggle.", example = "Enables the new checkout flow.")
+    private String description;
+
+    @Size(max = 100, message = "A toggle cannot have more than 100 environments.")
+    @Schema(description = "Lookup codes of the environments the toggle applies to; replaces the current set.",
+            example = "[\"DEV\", \"TEST\", \"PROD\"]")
+    private List<String> environmentCodes;
+}
@@ -0,0 +1,156 @@
+package toolyverse.io.toolyverse.domain.toggle.report;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Counts toggle evaluations per (toggle key, environment, result) at the cost of two map lookups and
+ * a {@link LongAdder} increment, so recording stays cheaper than the evaluation itself.
+ * <p>
+ * Each counter is exposed as a {@code toggle.evaluations} Micrometer counter tagged with
+ * {@code toggle}, {@code environment} and {@code result}. Only toggles and environments known to the
+ * evaluator get their own counters; everything else is counted in {@code toggle.evaluations.unknown},
+ * which keeps the meter cardinality bounded by the toggle catalog.
+ * <p>
+ * When a toggle or environment leaves the evaluator's snapshot, its meters are removed from the
+ * registry. The counts are kept as retired until {@link ToggleEvaluationReportWriter} has flushed
+ * them, and are picked up again if the same pair reappears in the meantime.
+ */
+@Component
+@RequiredArgsConstructor
+public class ToggleEvaluationMetrics {
+
+    public static final String EVALUATIONS_METER = "toggle.evaluations";
+    public static final String UNKNOWN_EVALUATIONS_METER = "toggle.evaluations.unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Map<String, Counters>> countersByToggle = new ConcurrentHashMap<>();
+    // Counters whose meters were removed, kept until their counts have been flushed.
+    private final Map<CounterKey, Counters> retired = new ConcurrentHashMap<>();
+    private final LongAdder unknownEvaluations = new LongAdder();
+    private volatile boolean unknownMeterRegistered;
+
+    public void record(String toggleKey, String environmentCode, boolean enabled) {
+        Map<String, Counters> countersByEnvironment = countersByToggle.get(toggleKey);
+        Counters counters = countersByEnvironment != null ? countersByEnvironment.get(environmentCode) : null;
+        if (counters == null) {
+            counters = register(toggleKey, environmentCode);
+        }
+        (enabled ? counters.enabled() : counters.disabled()).increment();
+    }
+
+    public void recordUnknown() {
+        if (!unknownMeterRegistered) {
+            registerUnknownMeter();
+        }
+        unknownEvaluations.increment();
+    }
+
+    /**
+     * Removes the meters of every (toggle, environment) pair that is not in the given sets; called by
+     * the evaluator whenever it swaps in a snapshot.
+     */
+    public synchronized void retainOnly(Set<String> toggleKeys, Set<String> environmentCodes) {
+        Iterator<Map.Entry<String, Map<String, Counters>>> toggles = countersByToggle.entrySet().iterator();
+        while (toggles.hasNext()) {
+            Map.Entry<String, Map<String, Counters>> toggle = toggles.next();
+            boolean toggleKnown = toggleKeys.contains(toggle.getKey());
+            toggle.getValue().entrySet().removeIf(environment -> {
+                if (toggleKnown && environmentCodes.contains(environment.getKey())) {
+                    return false;
+                }
+                Counters counters = environment.getValue();
+                meterRegistry.remove(counters.enabledMeter());
+                meterRegistry.remove(counters.disabledMeter());
+                retired.put(new CounterKey(toggle.getKey(), environment.getKey()), counters);
+                return true;
+            });
+            if (toggle.getValue().isEmpty()) {
+                toggles.remove();
+            }
+        }
+    }
+
+    /**
+     * Visits every counter pair, retired ones included; used by {@link ToggleEvaluationReportWriter}
+     * to compute deltas.
+     */
+    void forEach(BiConsumer<CounterKey, Counters> visitor) {
+        countersByToggle.forEach((toggleKey, countersByEnvironment) ->
+                countersByEnvironment.forEach((environmentCode, counters) ->
+                        visitor.accept(new CounterKey(toggleKey, environmentCode), counters)));
+        retired.forEach(visitor);
+    }
+
+    Set<CounterKey> retiredKeys() {
+        return Set.copyOf(retired.keySet());
+    }
+
+    /**
+     * Forgets retired counters once their counts have been flushed and returns the keys actually
+     * dropped; a pair that was registered again in the meantime keeps its counters.
+     */
+    synchronized Set<CounterKey> dropRetired(Collection<CounterKey> keys) {
+        Set<CounterKey> dropped = new HashSet<>();
+        keys.forEach(key -> {
+            if (retired.remove(key) != null) {
+                dropped.add(key);
+            }
+        });
+        return dropped;
+    }
+
+    // --- Private Helper Methods ---
+
+    // Synchronized with retainOnly, so a pair is never registered into a map that is being retired.
+    private synchronized Counters register(String toggleKey, String environmentCode) {
+        return countersByToggle
+                .computeIfAbsent(toggleKey, _ -> new ConcurrentHashMap<>())
+                .computeIfAbsent(environmentCode, _ -> {
+                    // A pair that comes back before its retired counts were flushed keeps counting on them.
+                    Counters previous = retired.remove(new CounterKey(toggleKey, environmentCode));
+                    LongAdder enabled = previous != null ? previous.enabled() : new LongAdder();
+                    LongAdder disabled = previous != null ? previous.disabled() : new LongAdder();
+                    return new Counters(enabled, disabled,
+                            registerMeter(toggleKey, environmentCode, "true", enabled),
+                            registerMeter(toggleKey, environmentCode, "false", disabled));
+                });
+    }
+
+    private Meter registerMeter(String toggleKey, String environmentCode, String result, LongAdder adder) {
+        return FunctionCounter.builder(EVALUATIONS_METER, adder, LongAdder::sum)
+                .description("Toggle evaluations by toggle, environment and result")
+                .tag("toggle", toggleKey)
+                .tag("environment", environmentCode)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private synchronized void registerUnknownMeter() {
+        if (!unknownMeterRegistered) {
+            FunctionCounter.builder(UNKNOWN_EVALUATIONS_METER, unknownEvaluations, LongAdder::sum)
+                    .description("Evaluations of unknown toggles or environments")
+                    .register(meterRegistry);
+            unknownMeterRegistered = true;
+        }
+    }
+
+    record CounterKey(String toggleKey, String environmentCode) {
+    }
+
+    record Counters(LongAdder enabled, LongAdder disabled, Meter enabledMeter, Meter disabledMeter) {
+    }
+}
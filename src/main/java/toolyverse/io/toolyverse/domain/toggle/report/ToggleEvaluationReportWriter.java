@@ -0,0 +1,89 @@
+package toolyverse.io.toolyverse.domain.toggle.report;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toolyverse.io.toolyverse.domain.toggle.entity.ToggleEvaluationReport;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleEvaluationReportRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Periodically writes what {@link ToggleEvaluationMetrics} counted since the previous flush as one
+ * {@link ToggleEvaluationReport} row per active (toggle, environment). The counters themselves are never
+ * reset, so a failed flush is simply retried with a larger delta on the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToggleEvaluationReportWriter {
+
+    private final ToggleEvaluationMetrics toggleEvaluationMetrics;
+    private final ToggleEvaluationReportRepository toggleEvaluationReportRepository;
+
+    // Counter values already written, per (toggle, environment): {enabled, disabled}.
+    private final Map<ToggleEvaluationMetrics.CounterKey, long[]> flushed = new HashMap<>();
+    private LocalDateTime periodStart = LocalDateTime.now();
+
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public synchronized void flush() {
+        LocalDateTime periodEnd = LocalDateTime.now();
+        // Only counters retired before this visit are known to be fully included in it.
+        Set<ToggleEvaluationMetrics.CounterKey> retiredKeys = toggleEvaluationMetrics.retiredKeys();
+        List<ToggleEvaluationReport> reports = new ArrayList<>();
+        Map<ToggleEvaluationMetrics.CounterKey, long[]> totals = new HashMap<>();
+
+        toggleEvaluationMetrics.forEach((key, counters) -> {
+            long[] total = {counters.enabled().sum(), counters.disabled().sum()};
+            long[] previous = flushed.getOrDefault(key, new long[2]);
+            long enabledDelta = total[0] - previous[0];
+            long disabledDelta = total[1] - previous[1];
+            if (enabledDelta > 0 || disabledDelta > 0) {
+                totals.put(key, total);
+                reports.add(ToggleEvaluationReport.builder()
+                        .toggleKey(key.toggleKey())
+                        .environmentCode(key.environmentCode())
+                        .enabledCount(enabledDelta)
+                        .disabledCount(disabledDelta)
+                        .periodStart(periodStart)
+                        .periodEnd(periodEnd)
+                        .build());
+            }
+        });
+
+        if (reports.isEmpty()) {
+            forgetRetired(retiredKeys);
+            periodStart = periodEnd;
+            return;
+        }
+
+        try {
+            toggleEvaluationReportRepository.saveAll(reports);
+        } catch (Exception e) {
+            log.warn("Failed to flush toggle evaluation report, retrying on next run: {}", e.getMessage());
+            return;
+        }
+        flushed.putAll(totals);
+        forgetRetired(retiredKeys);
+        periodStart = periodEnd;
+        log.debug("Flushed toggle evaluation report with {} rows", reports.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void forgetRetired(Set<ToggleEvaluationMetrics.CounterKey> retiredKeys) {
+        flushed.keySet().removeAll(toggleEvaluationMetrics.dropRetired(retiredKeys));
+    }
+}
@@ -0,0 +1,31 @@
+package toolyverse.io.toolyverse.domain.toggle.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import toolyverse.io.toolyverse.domain.shared.repository.BaseJpaRepository;
+import toolyverse.io.toolyverse.domain.toggle.entity.ScheduledToggleChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledToggleChangeRepository extends BaseJpaRepository<ScheduledToggleChange, Long> {
+
+    List<ScheduledToggleChange> findAllByAppliedAtIsNullAndDeletedAtIsNullOrderByEffectiveAt();
+
+    List<ScheduledToggleChange> findAllByToggleKeyAndAppliedAtIsNullAndDeletedAtIsNullOrderByEffectiveAt(String toggleKey);
+
+    Optional<ScheduledToggleChange> findByIdAndAppliedAtIsNullAndDeletedAtIsNull(Long id);
+
+    /**
+     * Marks a pending change as applied. Only one caller across the cluster can get 1 back for a given
+     * change, which makes this the lock that decides which node applies it.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ScheduledToggleChange s SET s.appliedAt = :appliedAt " +
+            "WHERE s.id = :id AND s.appliedAt IS NULL AND s.deletedAt IS NULL")
+    int claim(@Param("id") Long id, @Param("appliedAt") LocalDateTime appliedAt);
+}
@@ -0,0 +1,9 @@
+package toolyverse.io.toolyverse.domain.toggle.repository;
+
+import org.springframework.stereotype.Repository;
+import toolyverse.io.toolyverse.domain.shared.repository.BaseJpaRepository;
+import toolyverse.io.toolyverse.domain.toggle.entity.ToggleEvaluationReport;
+
+@Repository
+public interface ToggleEvaluationReportRepository extends BaseJpaRepository<ToggleEvaluationReport, Long> {
+}
@@ -1,16 +1,23 @@
 package toolyverse.io.toolyverse.domain.toggle.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import toolyverse.io.toolyverse.domain.shared.repository.BaseJpaRepository;
 import toolyverse.io.toolyverse.domain.toggle.entity.Toggle;
 import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentProjection;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ToggleRepository extends BaseJpaRepository<Toggle, Long> {
@@ -21,6 +28,10 @@ public interface ToggleRepository extends BaseJpaRepository<Toggle, Long> {
      */
     Optional<Toggle> findByToggleKey(String toggleKey);
 
+    Optional<Toggle> findByToggleKeyAndDeletedAtIsNull(String toggleKey);
+
+    boolean existsByToggleKeyAndDeletedAtIsNull(String toggleKey);
+
     /**
      * Find toggle by key and environment code
      */
@@ -47,7 +58,53 @@ public interface ToggleRepository extends BaseJpaRepository<Toggle, Long> {
      */
     @Query("SELECT new toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto(" +
             "t.id, t.toggleKey, t.isEnabled, t.description, t.createdAt, t.updatedAt) " +
-            "FROM Toggle t")
+            "FROM Toggle t WHERE t.deletedAt IS NULL")
     Page<ToggleWithEnvironmentsDto> findAllTogglesWithEnvironments(Pageable pageable);
 
+    /**
+     * Non-deleted environments of the given toggles, in display order. Companion to
+     * {@link #findAllTogglesWithEnvironments(Pageable)}, which leaves {@code environments} empty.
+     */
+    @Query("SELECT new toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentProjection(" +
+            "t.id, e.id, e.code, e.description, e.isActive, e.displayOrder) " +
+            "FROM Toggle t JOIN t.environments e " +
+            "WHERE t.id IN :toggleIds AND e.deletedAt IS NULL ORDER BY e.displayOrder, e.code")
+    List<ToggleEnvironmentProjection> findAllEnvironmentsByToggleIds(@Param("toggleIds") Collection<Long> toggleIds);
+
+    /**
+     * Streams non-deleted toggles joined with their environment codes, ordered by toggle id so rows of
+     * the same toggle are adjacent. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow(" +
+            "t.id, t.toggleKey, t.isEnabled, t.description, t.updatedAt, e.code) " +
+            "FROM Toggle t LEFT JOIN t.environments e ON e.deletedAt IS NULL " +
+            "WHERE t.deletedAt IS NULL ORDER BY t.id, e.code")
+    Stream<ToggleEnvironmentRow> streamAllWithEnvironmentCodes();
+
+    /**
+     * Same rows as {@link #streamAllWithEnvironmentCodes()}, loaded eagerly; used to build the in-memory
+     * toggle snapshot.
+     */
+    @Query("SELECT new toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow(" +
+            "t.id, t.toggleKey, t.isEnabled, t.description, t.updatedAt, e.code) " +
+            "FROM Toggle t LEFT JOIN t.environments e ON e.deletedAt IS NULL " +
+            "WHERE t.deletedAt IS NULL ORDER BY t.id, e.code")
+    List<ToggleEnvironmentRow> findAllWithEnvironmentCodes();
+
+    /**
+     * Same rows as {@link #findAllWithEnvironmentCodes()}, restricted to toggles attached to the given
+     * environment, deleted or not; used to republish the toggles a deleted environment affects.
+     */
+    @Query("SELECT new toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow(" +
+            "t.id, t.toggleKey, t.isEnabled, t.description, t.updatedAt, e.code) " +
+            "FROM Toggle t LEFT JOIN t.environments e ON e.deletedAt IS NULL " +
+            "WHERE t.deletedAt IS NULL AND t.id IN (" +
+            "SELECT te.id FROM Toggle te JOIN te.environments env WHERE env.id = :environmentId) " +
+            "ORDER BY t.id, e.code")
+    List<ToggleEnvironmentRow> findAllWithEnvironmentCodesByEnvironmentId(@Param("environmentId") Long environmentId);
+
 }
@@ -0,0 +1,21 @@
+package toolyverse.io.toolyverse.domain.toggle.repository.projection;
+
+import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
+
+/**
+ * An environment of a toggle, tagged with the owning toggle's id so the environments of a whole page
+ * of toggles can be loaded with one query and grouped in memory.
+ */
+public record ToggleEnvironmentProjection(
+        Long toggleId,
+        Long id,
+        String code,
+        String description,
+        Boolean isActive,
+        Integer displayOrder
+) {
+
+    public EnvironmentDto toEnvironmentDto() {
+        return new EnvironmentDto(id, code, description, isActive, displayOrder);
+    }
+}
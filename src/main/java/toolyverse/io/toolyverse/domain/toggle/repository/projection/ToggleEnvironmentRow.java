@@ -0,0 +1,17 @@
+package toolyverse.io.toolyverse.domain.toggle.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One (toggle, environment) pair of a flattened toggle query. Toggles without environments appear once
+ * with a null {@code environmentCode}.
+ */
+public record ToggleEnvironmentRow(
+        Long toggleId,
+        String toggleKey,
+        Boolean isEnabled,
+        String description,
+        LocalDateTime updatedAt,
+        String environmentCode
+) {
+}
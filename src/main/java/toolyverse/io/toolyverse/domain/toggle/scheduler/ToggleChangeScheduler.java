@@ -0,0 +1,166 @@
+package toolyverse.io.toolyverse.domain.toggle.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleScheduleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ScheduledToggleChangeDto;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleScheduleService;
+import toolyverse.io.toolyverse.infrastructure.config.cache.CacheInvalidationBus;
+import toolyverse.io.toolyverse.infrastructure.util.HashedTimingWheel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Fires scheduled toggle changes at their effective time from an in-memory {@link HashedTimingWheel}
+ * instead of polling the database.
+ * <p>
+ * Every node loads all pending changes at startup. When a change is scheduled or cancelled anywhere,
+ * its id is announced over the {@link CacheInvalidationBus} and every node re-reads just that change.
+ * When a change fires, all nodes race to claim it and only the winner applies it; a failed apply is
+ * retried with a growing backoff. A slow full resync covers lost invalidation messages.
+ */
+@Slf4j
+@Component
+public class ToggleChangeScheduler {
+
+    public static final String INVALIDATION_REGION = "toggle_schedules";
+
+    // 100 ms ticks, 512 buckets: one revolution covers ~51 s, later changes wait whole rounds.
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final int WHEEL_SIZE = 512;
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(5);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(2);
+
+    private final ToggleScheduleService toggleScheduleService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final HashedTimingWheel timingWheel;
+
+    // Scheduled change id -> its timeout on the wheel; guarded by this.
+    private final Map<Long, HashedTimingWheel.Timeout> timeouts = new HashMap<>();
+
+    public ToggleChangeScheduler(ToggleScheduleService toggleScheduleService,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 @Qualifier("asyncExecutor") Executor asyncExecutor) {
+        this.toggleScheduleService = toggleScheduleService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.timingWheel = new HashedTimingWheel("ToggleChangeWheel", TICK, WHEEL_SIZE, asyncExecutor);
+    }
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.subscribeWithKey(INVALIDATION_REGION, scheduleId -> {
+            if (scheduleId != null) {
+                refresh(Long.valueOf(scheduleId));
+            } else {
+                reload();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ToggleScheduleChangedEvent event) {
+        refresh(event.scheduleId());
+        cacheInvalidationBus.publish(INVALIDATION_REGION, String.valueOf(event.scheduleId()));
+    }
+
+    @Scheduled(fixedDelayString = "PT10M", initialDelayString = "PT10M")
+    public void resync() {
+        reload();
+    }
+
+    /**
+     * Replaces everything on the wheel with the currently pending changes. Overdue changes, e.g. ones
+     * missed while no node was running, fire on the next tick.
+     */
+    public synchronized void reload() {
+        List<ScheduledToggleChangeDto> pendingChanges;
+        try {
+            pendingChanges = toggleScheduleService.findAllPending();
+        } catch (Exception e) {
+            log.error("Failed to load scheduled toggle changes, keeping the current schedule", e);
+            return;
+        }
+
+        timeouts.values().forEach(HashedTimingWheel.Timeout::cancel);
+        timeouts.clear();
+        for (ScheduledToggleChangeDto change : pendingChanges) {
+            schedule(change, change.effectiveAt().atZone(ZoneId.systemDefault()).toInstant(), 0);
+        }
+        log.debug("Scheduled {} pending toggle changes", pendingChanges.size());
+    }
+
+    /**
+     * Re-reads one change: puts it on the wheel if it is pending, removes it otherwise.
+     */
+    public synchronized void refresh(Long scheduleId) {
+        Optional<ScheduledToggleChangeDto> pendingChange;
+        try {
+            pendingChange = toggleScheduleService.findPendingById(scheduleId);
+        } catch (Exception e) {
+            log.error("Failed to load scheduled toggle change {}, leaving it to the resync", scheduleId, e);
+            return;
+        }
+
+        HashedTimingWheel.Timeout previous = timeouts.remove(scheduleId);
+        if (previous != null) {
+            previous.cancel();
+        }
+        pendingChange.ifPresent(change ->
+                schedule(change, change.effectiveAt().atZone(ZoneId.systemDefault()).toInstant(), 0));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+    }
+
+    // --- Private Helper Methods ---
+
+    // Caller holds the lock.
+    private void schedule(ScheduledToggleChangeDto change, Instant fireAt, int failedAttempts) {
+        timeouts.put(change.id(), timingWheel.schedule(fireAt, () -> fire(change, failedAttempts)));
+    }
+
+    private void fire(ScheduledToggleChangeDto change, int failedAttempts) {
+        synchronized (this) {
+            timeouts.remove(change.id());
+        }
+        try {
+            toggleScheduleService.apply(change);
+        } catch (Exception e) {
+            // Left unclaimed, so it can be retried; a refresh or resync meanwhile replaces the retry.
+            Duration delay = retryDelay(failedAttempts);
+            log.error("Failed to apply scheduled toggle change {}, retrying in {}", change.id(), delay, e);
+            synchronized (this) {
+                if (!timeouts.containsKey(change.id())) {
+                    schedule(change, Instant.now().plus(delay), failedAttempts + 1);
+                }
+            }
+        }
+    }
+
+    private static Duration retryDelay(int failedAttempts) {
+        Duration delay = INITIAL_RETRY_DELAY.multipliedBy(1L << Math.min(failedAttempts, 10));
+        return delay.compareTo(MAX_RETRY_DELAY) < 0 ? delay : MAX_RETRY_DELAY;
+    }
+}
@@ -0,0 +1,103 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.lookup.entity.Lookup;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.domain.lookup.repository.LookupRepository;
+import toolyverse.io.toolyverse.domain.lookup.service.LookupHierarchyIndex;
+import toolyverse.io.toolyverse.domain.toggle.entity.Toggle;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleChangeType;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.mapper.ToggleMapper;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.model.request.CreateToggleCommandRequest;
+import toolyverse.io.toolyverse.domain.toggle.model.request.UpdateToggleCommandRequest;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Toggle write operations. Every change publishes a {@link ToggleChangedEvent} so in-memory views such
+ * as {@link ToggleEvaluator} can refresh after commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class ToggleCommandService {
+
+    private final ToggleRepository toggleRepository;
+    private final LookupRepository lookupRepository;
+    private final LookupHierarchyIndex lookupHierarchyIndex;
+    private final ToggleMapper toggleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ToggleWithEnvironmentsDto create(CreateToggleCommandRequest request) {
+        if (toggleRepository.existsByToggleKeyAndDeletedAtIsNull(request.getToggleKey())) {
+            throw ExceptionUtil.buildException(ExceptionMessage.ALREADY_EXISTS_EXCEPTION);
+        }
+
+        Toggle toggle = Toggle.builder()
+                .toggleKey(request.getToggleKey())
+                .isEnabled(Boolean.TRUE.equals(request.getIsEnabled()))
+                .description(request.getDescription())
+                .environments(resolveEnvironments(request.getEnvironmentCodes()))
+                .build();
+        ToggleWithEnvironmentsDto savedToggle = toggleMapper.toDto(toggleRepository.saveAndFlush(toggle));
+        eventPublisher.publishEvent(new ToggleChangedEvent(ToggleChangeType.CREATED, savedToggle.getToggleKey(), savedToggle));
+        return savedToggle;
+    }
+
+    @Transactional
+    public ToggleWithEnvironmentsDto update(String toggleKey, UpdateToggleCommandRequest request) {
+        Toggle toggle = findToggle(toggleKey);
+        if (request.getIsEnabled() != null) {
+            toggle.setIsEnabled(request.getIsEnabled());
+        }
+        if (request.getDescription() != null) {
+            toggle.setDescription(request.getDescription());
+        }
+        if (request.getEnvironmentCodes() != null) {
+            toggle.clearEnvironments();
+            resolveEnvironments(request.getEnvironmentCodes()).forEach(toggle::addEnvironment);
+        }
+        // Flushed so the DTO carries the new updatedAt, which versions the change for other nodes.
+        ToggleWithEnvironmentsDto savedToggle = toggleMapper.toDto(toggleRepository.saveAndFlush(toggle));
+        eventPublisher.publishEvent(new ToggleChangedEvent(ToggleChangeType.UPDATED, toggleKey, savedToggle));
+        return savedToggle;
+    }
+
+    @Transactional
+    public void delete(String toggleKey) {
+        Toggle toggle = findToggle(toggleKey);
+        toggleRepository.delete(toggle);
+        eventPublisher.publishEvent(new ToggleChangedEvent(ToggleChangeType.DELETED, toggleKey, null));
+    }
+
+    // --- Private Helper Methods ---
+
+    private Toggle findToggle(String toggleKey) {
+        return toggleRepository.findByToggleKeyAndDeletedAtIsNull(toggleKey)
+                .orElseThrow(() -> ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, toggleKey));
+    }
+
+    // Environments are lookups; codes are resolved from the in-memory index and attached as references.
+    private Set<Lookup> resolveEnvironments(List<String> environmentCodes) {
+        Set<Lookup> environments = new HashSet<>();
+        if (environmentCodes == null) {
+            return environments;
+        }
+        for (String environmentCode : environmentCodes) {
+            LookupDto environment = lookupHierarchyIndex.findByCode(environmentCode)
+                    .orElseThrow(() -> ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, environmentCode));
+            environments.add(lookupRepository.getReferenceById(environment.getId()));
+        }
+        return environments;
+    }
+}
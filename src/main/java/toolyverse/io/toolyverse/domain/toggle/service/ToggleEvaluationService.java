@@ -0,0 +1,62 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleEvaluationFormat;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEvaluationDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleSnapshotDto;
+import toolyverse.io.toolyverse.domain.toggle.model.request.EvaluateTogglesRequest;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk toggle evaluation for callers that need many toggles per request, answered from the
+ * {@link ToggleEvaluator} snapshot without touching the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class ToggleEvaluationService {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ToggleEvaluator toggleEvaluator;
+
+    /**
+     * The keys enabled in one environment, versioned by a 64-bit FNV-1a hash of their sorted contents.
+     */
+    public ToggleSnapshotDto snapshot(String environmentCode) {
+        List<String> enabledKeys = toggleEvaluator.findEnabledToggleKeys(environmentCode);
+        long hash = FNV_OFFSET_BASIS;
+        for (String toggleKey : enabledKeys) {
+            for (int i = 0; i < toggleKey.length(); i++) {
+                hash = (hash ^ toggleKey.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ '\n') * FNV_PRIME;
+        }
+        return new ToggleSnapshotDto(environmentCode, enabledKeys.size() + "-" + Long.toHexString(hash), enabledKeys);
+    }
+
+    public ToggleEvaluationDto evaluate(EvaluateTogglesRequest request) {
+        Map<String, Boolean> results = toggleEvaluator.evaluate(request.getEnvironment(), request.getKeys());
+        if (request.getFormat() != ToggleEvaluationFormat.BITMAP) {
+            return new ToggleEvaluationDto(request.getEnvironment(), results, null, null);
+        }
+
+        List<String> keys = new ArrayList<>(results.size());
+        BitSet bitmap = new BitSet(results.size());
+        results.forEach((toggleKey, enabled) -> {
+            if (enabled) {
+                bitmap.set(keys.size());
+            }
+            keys.add(toggleKey);
+        });
+        // BitSet.toByteArray is little-endian and drops trailing zero bytes; missing bits read as false.
+        String encodedBitmap = Base64.getEncoder().encodeToString(bitmap.toByteArray());
+        return new ToggleEvaluationDto(request.getEnvironment(), null, keys, encodedBitmap);
+    }
+}
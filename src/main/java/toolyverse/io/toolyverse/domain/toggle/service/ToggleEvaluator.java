@@ -0,0 +1,351 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toolyverse.io.toolyverse.domain.lookup.enumeration.LookupChangeType;
+import toolyverse.io.toolyverse.domain.lookup.event.LookupChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleChangeType;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedMessage;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleStateChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEnvironmentChangeDto;
+import toolyverse.io.toolyverse.domain.toggle.report.ToggleEvaluationMetrics;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+
+import java.util.*;
+
+/**
+ * Answers "is toggle X enabled in environment Y" from an immutable in-memory snapshot instead of a
+ * three-table join per call.
+ * <p>
+ * A toggle is enabled in an environment when it is switched on, not deleted and attached to that
+ * (non-deleted) environment. Environments are few and stable, so each gets a dense ordinal and every
+ * toggle keeps its enabled environments as a bit mask; a check is two hash lookups and a bit test,
+ * and "all toggles enabled in X" is a scan over the masks. Reads never block or allocate, and each
+ * caller-facing evaluation is counted in {@link ToggleEvaluationMetrics}.
+ * <p>
+ * The per-toggle state is fed by the compacted {@code toggle-changes} topic, which every node replays
+ * from the beginning on startup on top of the database state, so toggles that were never published
+ * are not lost. Until the replay has caught up with the end of the topic, readers are served the
+ * database state and replayed changes only accumulate; a half-replayed topic is never swapped in.
+ * Changes rebuild a complete new snapshot off the read path and swap it in, so readers see either the
+ * old or the new state, never a mix. Each swap that changes effective state publishes a
+ * {@link ToggleStateChangedEvent} with the per-environment difference.
+ * <p>
+ * Publishing is best effort, so a change whose record never reached the topic would leave other nodes
+ * stale; a periodic reload from the database bounds that to the resync interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToggleEvaluator {
+
+    private final ToggleRepository toggleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ToggleEvaluationMetrics toggleEvaluationMetrics;
+
+    // Latest known state per toggle key, seeded from the database; guarded by this.
+    private final Map<String, ToggleChangedMessage> toggles = new HashMap<>();
+    // Both guarded by this.
+    private boolean baseLoaded;
+    private boolean caughtUp;
+    private volatile Snapshot snapshot;
+
+    public boolean isEnabled(String toggleKey, String environmentCode) {
+        if (toggleKey == null || environmentCode == null) {
+            return false;
+        }
+        Snapshot current = currentSnapshot();
+        return record(current, toggleKey, environmentCode, current.environmentOrdinals().get(environmentCode));
+    }
+
+    /**
+     * Keys of all toggles enabled in the given environment, in key order.
+     */
+    public List<String> findEnabledToggleKeys(String environmentCode) {
+        Snapshot current = currentSnapshot();
+        Integer environmentOrdinal = current.environmentOrdinals().get(environmentCode);
+        if (environmentOrdinal == null) {
+            return List.of();
+        }
+
+        List<String> enabledKeys = new ArrayList<>();
+        long[][] masks = current.masks();
+        for (int i = 0; i < masks.length; i++) {
+            if (isSet(masks[i], environmentOrdinal)) {
+                enabledKeys.add(current.toggleKeys()[i]);
+            }
+        }
+        return enabledKeys;
+    }
+
+    /**
+     * Evaluates many toggles against one snapshot, so the answers are mutually consistent. With null
+     * {@code toggleKeys} every known toggle is evaluated, in key order; unknown keys evaluate to false.
+     */
+    public Map<String, Boolean> evaluate(String environmentCode, Collection<String> toggleKeys) {
+        Snapshot current = currentSnapshot();
+        Integer environmentOrdinal = current.environmentOrdinals().get(environmentCode);
+        Collection<String> keys = toggleKeys != null ? toggleKeys : Arrays.asList(current.toggleKeys());
+
+        Map<String, Boolean> results = new LinkedHashMap<>(keys.size() * 2);
+        for (String toggleKey : keys) {
+            if (toggleKey != null) {
+                results.put(toggleKey, record(current, toggleKey, environmentCode, environmentOrdinal));
+            }
+        }
+        return results;
+    }
+
+    // Applies this node's own writes right away instead of waiting for them to come back from Kafka
+    // (during the startup replay they become visible together with it). The same state arrives again
+    // through the topic, where offset order settles any conflict with other nodes' writes.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onToggleChanged(ToggleChangedEvent event) {
+        loadBase();
+        if (event.type() == ToggleChangeType.DELETED) {
+            toggles.remove(event.toggleKey());
+        } else {
+            // Guards against this node's own concurrent commits being delivered out of order. A skewed
+            // version from another node can only delay the write until its record arrives from the topic.
+            ToggleChangedMessage message = ToggleChangedMessage.of(event.toggle());
+            ToggleChangedMessage existing = toggles.get(event.toggleKey());
+            if (existing == null || existing.version() <= message.version()) {
+                toggles.put(event.toggleKey(), message);
+            }
+        }
+        if (caughtUp) {
+            swap(buildSnapshot(toggles.values()));
+        }
+    }
+
+    // Environments are lookups; a deleted one must stop enabling its toggles. Lookups whose code no
+    // toggle references are ignored without touching the database.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookupChanged(LookupChangedEvent event) {
+        if (event.type() != LookupChangeType.DELETED || event.lookup() == null
+                || !isReferencedEnvironment(event.lookup().getCode())) {
+            return;
+        }
+        // Codes are only unique per parent, so the affected toggles are resolved by id.
+        Map<String, ToggleChangedMessage> changes = new HashMap<>();
+        ToggleChangedMessage.fromRows(toggleRepository.findAllWithEnvironmentCodesByEnvironmentId(event.lookup().getId()))
+                .forEach(message -> changes.put(message.toggleKey(), message));
+        if (!changes.isEmpty()) {
+            applyChanges(changes);
+        }
+    }
+
+    /**
+     * Applies toggle states keyed by toggle key, in iteration order; a null value removes the toggle.
+     * Every key lives on one partition, so applying the topic in offset order makes the last write win
+     * without comparing versions stamped by different nodes' clocks.
+     */
+    public synchronized void applyChanges(Map<String, ToggleChangedMessage> changes) {
+        loadBase();
+        changes.forEach((toggleKey, message) -> {
+            if (message == null) {
+                toggles.remove(toggleKey);
+            } else {
+                toggles.put(toggleKey, message);
+            }
+        });
+        if (caughtUp) {
+            swap(buildSnapshot(toggles.values()));
+        }
+    }
+
+    /**
+     * Called once the topic replay reached the end offsets seen at startup; from then on every applied
+     * change is visible to readers.
+     */
+    public synchronized void markCaughtUp() {
+        if (caughtUp) {
+            return;
+        }
+        loadBase();
+        caughtUp = true;
+        swap(buildSnapshot(toggles.values()));
+        log.info("Toggle topic replay caught up, serving {} toggles", toggles.size());
+    }
+
+    @Scheduled(fixedDelayString = "PT10M", initialDelayString = "PT10M")
+    public void resync() {
+        reload();
+    }
+
+    /**
+     * Replaces all state with the database contents. Rebuilds are serialized so a slower, older build
+     * can never replace a newer one. On failure the previous snapshot keeps serving.
+     */
+    public synchronized void reload() {
+        List<ToggleChangedMessage> messages;
+        try {
+            messages = ToggleChangedMessage.fromRows(toggleRepository.findAllWithEnvironmentCodes());
+        } catch (Exception e) {
+            log.error("Failed to reload toggles, keeping the previous snapshot", e);
+            return;
+        }
+        toggles.clear();
+        messages.forEach(message -> toggles.put(message.toggleKey(), message));
+        baseLoaded = true;
+        // Right after a reload the state is exactly the database's, so it is safe to serve mid-replay too.
+        swap(buildSnapshot(toggles.values()));
+    }
+
+    // --- Private Helper Methods ---
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        // Only reached when a toggle is evaluated before the replay caught up; serve the database state.
+        synchronized (this) {
+            if (snapshot == null) {
+                List<ToggleChangedMessage> messages = ToggleChangedMessage.fromRows(toggleRepository.findAllWithEnvironmentCodes());
+                if (!baseLoaded) {
+                    messages.forEach(message -> toggles.put(message.toggleKey(), message));
+                    baseLoaded = true;
+                }
+                snapshot = buildSnapshot(messages);
+            }
+            return snapshot;
+        }
+    }
+
+    private synchronized boolean isReferencedEnvironment(String environmentCode) {
+        return toggles.values().stream().anyMatch(state -> state.environmentCodes().contains(environmentCode));
+    }
+
+    // Seeds the state with the database contents before the first replayed change is applied on top.
+    private void loadBase() {
+        if (baseLoaded) {
+            return;
+        }
+        ToggleChangedMessage.fromRows(toggleRepository.findAllWithEnvironmentCodes())
+                .forEach(message -> toggles.putIfAbsent(message.toggleKey(), message));
+        baseLoaded = true;
+    }
+
+    private void swap(Snapshot current) {
+        Snapshot previous = snapshot;
+        snapshot = current;
+        toggleEvaluationMetrics.retainOnly(current.toggleIndexes().keySet(), current.environmentOrdinals().keySet());
+
+        if (previous != null) {
+            List<ToggleEnvironmentChangeDto> changes = diff(previous, current);
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(new ToggleStateChangedEvent(changes));
+            }
+        }
+    }
+
+    private static boolean isSet(long[] mask, int ordinal) {
+        int word = ordinal >>> 6;
+        return word < mask.length && (mask[word] & (1L << ordinal)) != 0;
+    }
+
+    // Evaluates and counts one caller-facing evaluation.
+    private boolean record(Snapshot snapshot, String toggleKey, String environmentCode, Integer environmentOrdinal) {
+        if (environmentOrdinal == null || !snapshot.toggleIndexes().containsKey(toggleKey)) {
+            toggleEvaluationMetrics.recordUnknown();
+            return false;
+        }
+        boolean enabled = isEnabled(snapshot, toggleKey, environmentOrdinal);
+        toggleEvaluationMetrics.record(toggleKey, environmentCode, enabled);
+        return enabled;
+    }
+
+    private static boolean isEnabled(Snapshot snapshot, String toggleKey, Integer environmentOrdinal) {
+        Integer toggleIndex = snapshot.toggleIndexes().get(toggleKey);
+        return toggleIndex != null && environmentOrdinal != null
+                && isSet(snapshot.masks()[toggleIndex], environmentOrdinal);
+    }
+
+    private static List<ToggleEnvironmentChangeDto> diff(Snapshot previous, Snapshot current) {
+        Set<String> environmentCodes = new TreeSet<>(previous.environmentOrdinals().keySet());
+        environmentCodes.addAll(current.environmentOrdinals().keySet());
+
+        List<ToggleEnvironmentChangeDto> changes = new ArrayList<>();
+        for (String environmentCode : environmentCodes) {
+            Integer previousOrdinal = previous.environmentOrdinals().get(environmentCode);
+            Integer currentOrdinal = current.environmentOrdinals().get(environmentCode);
+            List<String> enabledKeys = new ArrayList<>();
+            List<String> disabledKeys = new ArrayList<>();
+
+            for (String toggleKey : current.toggleKeys()) {
+                boolean wasEnabled = isEnabled(previous, toggleKey, previousOrdinal);
+                boolean nowEnabled = isEnabled(current, toggleKey, currentOrdinal);
+                if (nowEnabled && !wasEnabled) {
+                    enabledKeys.add(toggleKey);
+                } else if (wasEnabled && !nowEnabled) {
+                    disabledKeys.add(toggleKey);
+                }
+            }
+            // Deleted toggles are only present in the previous snapshot.
+            for (String toggleKey : previous.toggleKeys()) {
+                if (!current.toggleIndexes().containsKey(toggleKey) && isEnabled(previous, toggleKey, previousOrdinal)) {
+                    disabledKeys.add(toggleKey);
+                }
+            }
+
+            if (!enabledKeys.isEmpty() || !disabledKeys.isEmpty()) {
+                changes.add(new ToggleEnvironmentChangeDto(environmentCode, List.copyOf(enabledKeys), List.copyOf(disabledKeys)));
+            }
+        }
+        return changes;
+    }
+
+    private static Snapshot buildSnapshot(Collection<ToggleChangedMessage> states) {
+        List<ToggleChangedMessage> sortedStates = new ArrayList<>(states);
+        sortedStates.sort(Comparator.comparing(ToggleChangedMessage::toggleKey));
+
+        // Ordinals follow code order, so they are stable as long as the set of environments is.
+        Map<String, Integer> environmentOrdinals = new HashMap<>();
+        sortedStates.stream()
+                .flatMap(state -> state.environmentCodes().stream())
+                .distinct()
+                .sorted()
+                .forEach(code -> environmentOrdinals.put(code, environmentOrdinals.size()));
+        int words = Math.max(1, (environmentOrdinals.size() + 63) >>> 6);
+
+        String[] toggleKeys = new String[sortedStates.size()];
+        long[][] masks = new long[sortedStates.size()][];
+        Map<String, Integer> toggleIndexes = new HashMap<>(sortedStates.size() * 2);
+        for (int i = 0; i < sortedStates.size(); i++) {
+            ToggleChangedMessage state = sortedStates.get(i);
+            long[] mask = new long[words];
+            if (state.isEnabled()) {
+                for (String environmentCode : state.environmentCodes()) {
+                    int ordinal = environmentOrdinals.get(environmentCode);
+                    mask[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+            toggleKeys[i] = state.toggleKey();
+            masks[i] = mask;
+            toggleIndexes.put(state.toggleKey(), i);
+        }
+
+        log.debug("Built toggle snapshot with {} toggles across {} environments", toggleKeys.length, environmentOrdinals.size());
+        return new Snapshot(Map.copyOf(environmentOrdinals), Map.copyOf(toggleIndexes), toggleKeys, masks);
+    }
+
+    /**
+     * {@code masks[i]} holds the enabled environments of {@code toggleKeys[i]}, one bit per environment
+     * ordinal. Disabled toggles keep an all-zero mask.
+     */
+    private record Snapshot(
+            Map<String, Integer> environmentOrdinals,
+            Map<String, Integer> toggleIndexes,
+            String[] toggleKeys,
+            long[][] masks
+    ) {
+    }
+}
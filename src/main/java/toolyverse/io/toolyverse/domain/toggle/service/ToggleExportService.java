@@ -0,0 +1,78 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.shared.enumeration.ExportFormat;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleExportDto;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow;
+import toolyverse.io.toolyverse.infrastructure.util.ExportStreamWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams toggles with their environment codes. The query returns one flat row per (toggle,
+ * environment) ordered by toggle id, so only the toggle currently being assembled is held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class ToggleExportService {
+
+    private static final List<String> CSV_HEADER = List.of("id", "toggleKey", "isEnabled", "description", "environments");
+
+    private final ToggleRepository toggleRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) {
+        try (Stream<ToggleEnvironmentRow> rows = toggleRepository.streamAllWithEnvironmentCodes();
+             ExportStreamWriter<ToggleExportDto> writer = ExportStreamWriter.open(
+                     format, outputStream, objectMapper, CSV_HEADER, ToggleExportService::toCsvColumns)) {
+            Iterator<ToggleEnvironmentRow> iterator = rows.iterator();
+            ToggleEnvironmentRow current = null;
+            List<String> environments = new ArrayList<>();
+
+            while (iterator.hasNext()) {
+                ToggleEnvironmentRow row = iterator.next();
+                if (current != null && !current.toggleId().equals(row.toggleId())) {
+                    writer.write(toDto(current, environments));
+                    environments = new ArrayList<>();
+                }
+                current = row;
+                if (row.environmentCode() != null) {
+                    environments.add(row.environmentCode());
+                }
+            }
+            if (current != null) {
+                writer.write(toDto(current, environments));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private static ToggleExportDto toDto(ToggleEnvironmentRow row, List<String> environments) {
+        return new ToggleExportDto(row.toggleId(), row.toggleKey(), row.isEnabled(), row.description(), List.copyOf(environments));
+    }
+
+    private static List<?> toCsvColumns(ToggleExportDto toggle) {
+        return Arrays.asList(
+                toggle.id(),
+                toggle.toggleKey(),
+                toggle.isEnabled(),
+                toggle.description(),
+                String.join("|", toggle.environments())
+        );
+    }
+}
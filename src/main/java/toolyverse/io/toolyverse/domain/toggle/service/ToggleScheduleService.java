@@ -0,0 +1,112 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.toggle.entity.ScheduledToggleChange;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleScheduleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ScheduledToggleChangeDto;
+import toolyverse.io.toolyverse.domain.toggle.model.request.ScheduleToggleChangeRequest;
+import toolyverse.io.toolyverse.domain.toggle.model.request.UpdateToggleCommandRequest;
+import toolyverse.io.toolyverse.domain.toggle.repository.ScheduledToggleChangeRepository;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scheduled toggle changes: creating, listing and cancelling them, and applying one when its time
+ * has come. Applying claims the change with a conditional update first, so when every node's timing
+ * wheel fires for the same change, exactly one of them switches the toggle.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToggleScheduleService {
+
+    private final ScheduledToggleChangeRepository scheduledToggleChangeRepository;
+    private final ToggleRepository toggleRepository;
+    private final ToggleCommandService toggleCommandService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ScheduledToggleChangeDto schedule(String toggleKey, ScheduleToggleChangeRequest request) {
+        if (!toggleRepository.existsByToggleKeyAndDeletedAtIsNull(toggleKey)) {
+            throw ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, toggleKey);
+        }
+
+        ScheduledToggleChange change = scheduledToggleChangeRepository.save(ScheduledToggleChange.builder()
+                .toggleKey(toggleKey)
+                .targetEnabled(request.getIsEnabled())
+                .effectiveAt(request.getEffectiveAt())
+                .build());
+        eventPublisher.publishEvent(new ToggleScheduleChangedEvent(change.getId()));
+        return toDto(change);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduledToggleChangeDto> findPending(String toggleKey) {
+        return scheduledToggleChangeRepository
+                .findAllByToggleKeyAndAppliedAtIsNullAndDeletedAtIsNullOrderByEffectiveAt(toggleKey).stream()
+                .map(ToggleScheduleService::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduledToggleChangeDto> findAllPending() {
+        return scheduledToggleChangeRepository.findAllByAppliedAtIsNullAndDeletedAtIsNullOrderByEffectiveAt().stream()
+                .map(ToggleScheduleService::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ScheduledToggleChangeDto> findPendingById(Long scheduleId) {
+        return scheduledToggleChangeRepository.findByIdAndAppliedAtIsNullAndDeletedAtIsNull(scheduleId)
+                .map(ToggleScheduleService::toDto);
+    }
+
+    @Transactional
+    public void cancel(Long scheduleId) {
+        ScheduledToggleChange change = scheduledToggleChangeRepository.findByIdAndAppliedAtIsNullAndDeletedAtIsNull(scheduleId)
+                .orElseThrow(() -> ExceptionUtil.buildException(ExceptionMessage.NOT_FOUND_EXCEPTION, scheduleId));
+        scheduledToggleChangeRepository.delete(change);
+        eventPublisher.publishEvent(new ToggleScheduleChangedEvent(scheduleId));
+    }
+
+    /**
+     * Applies a due change if this caller wins the claim. The claim and the toggle update share one
+     * transaction, so a failed update releases the claim for the next attempt.
+     *
+     * @return whether this call applied the change
+     */
+    @Transactional
+    public boolean apply(ScheduledToggleChangeDto change) {
+        if (scheduledToggleChangeRepository.claim(change.id(), LocalDateTime.now()) == 0) {
+            return false;
+        }
+        if (!toggleRepository.existsByToggleKeyAndDeletedAtIsNull(change.toggleKey())) {
+            // Claimed anyway, so a change for a deleted toggle is not retried forever.
+            log.warn("Skipping scheduled change {}: toggle '{}' no longer exists", change.id(), change.toggleKey());
+            return false;
+        }
+
+        toggleCommandService.update(change.toggleKey(), UpdateToggleCommandRequest.builder()
+                .isEnabled(change.targetEnabled())
+                .build());
+        log.info("Applied scheduled change {}: toggle '{}' switched {}", change.id(), change.toggleKey(),
+                Boolean.TRUE.equals(change.targetEnabled()) ? "on" : "off");
+        return true;
+    }
+
+    // --- Private Helper Methods ---
+
+    private static ScheduledToggleChangeDto toDto(ScheduledToggleChange change) {
+        return new ScheduledToggleChangeDto(change.getId(), change.getToggleKey(), change.getTargetEnabled(),
+                change.getEffectiveAt(), change.getAppliedAt());
+    }
+}
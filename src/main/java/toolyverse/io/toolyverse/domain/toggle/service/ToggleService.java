@@ -1,49 +1,54 @@
-//package toolyverse.io.toolyverse.domain.toggle.service;
-//
-//
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.data.domain.Page;
-//import org.springframework.data.domain.Pageable;
-//import org.springframework.stereotype.Service;
-//import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
-//import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
-//import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
-//
-//import java.util.Collections;
-//import java.util.List;
-//import java.util.Map;
-//import java.util.stream.Collectors;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class ToggleService {
-//
-//    private final ToggleRepository toggleRepository;
-//
-//    /**
-//     * Find all toggles with their environments populated efficiently (with pagination)
-//     */
-//    public Page<ToggleWithEnvironmentsDto> findAllTogglesWithEnvironments(Pageable pageable) {
-//        // Step 1: Your existing query correctly fetches the paginated toggle data.
-//        Page<ToggleWithEnvironmentsDto> togglesPage = toggleRepository.findAllTogglesWithEnvironments(pageable);
-//
-//        if (togglesPage.isEmpty()) {
-//            return togglesPage;
-//        }
-//
-//        // Step 2: Extract the IDs of the toggles on the current page.
-//        List<Long> toggleIds = togglesPage.getContent().stream()
-//                .map(ToggleWithEnvironmentsDto::getId)
-//                .collect(Collectors.toList());
-//
-//        // Step 3  here fetch environment lookups by key
-//        //todo
-//
-//        // Step 4: Populate the 'environments' list in your main DTOs.
-//        togglesPage.getContent().forEach(toggle ->
-//                toggle.setEnvironments(environmentsMap.getOrDefault(toggle.getId(), Collections.emptyList()))
-//        );
-//
-//        return togglesPage;
-//    }
-//}
\ No newline at end of file
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentProjection;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class ToggleService {
+
+    private final ToggleRepository toggleRepository;
+
+    /**
+     * Find all toggles with their environments populated efficiently (with pagination).
+     * Always two queries per page (plus the count), whatever the page size.
+     */
+    @Transactional(readOnly = true)
+    public Page<ToggleWithEnvironmentsDto> findAllTogglesWithEnvironments(Pageable pageable) {
+        // Step 1: Fetch the paginated toggle data without environments.
+        Page<ToggleWithEnvironmentsDto> togglesPage = toggleRepository.findAllTogglesWithEnvironments(pageable);
+
+        if (togglesPage.isEmpty()) {
+            return togglesPage;
+        }
+
+        // Step 2: Extract the IDs of the toggles on the current page.
+        List<Long> toggleIds = togglesPage.getContent().stream()
+                .map(ToggleWithEnvironmentsDto::getId)
+                .toList();
+
+        // Step 3: Fetch the environments of all those toggles in one query, grouped by toggle id.
+        Map<Long, List<EnvironmentDto>> environmentsMap = new HashMap<>();
+        for (ToggleEnvironmentProjection environment : toggleRepository.findAllEnvironmentsByToggleIds(toggleIds)) {
+            environmentsMap.computeIfAbsent(environment.toggleId(), _ -> new ArrayList<>())
+                    .add(environment.toEnvironmentDto());
+        }
+
+        // Step 4: Populate the 'environments' list in the main DTOs.
+        togglesPage.getContent().forEach(toggle ->
+                toggle.setEnvironments(environmentsMap.getOrDefault(toggle.getId(), new ArrayList<>()))
+        );
+
+        return togglesPage;
+    }
+}
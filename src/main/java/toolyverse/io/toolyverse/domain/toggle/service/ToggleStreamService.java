@@ -0,0 +1,227 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleStateChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEnvironmentChangeDto;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes toggle changes to Server-Sent Events subscribers, one subscription per environment code.
+ * <p>
+ * A subscriber first receives a {@code snapshot} event with the keys currently enabled in its
+ * environment, then a {@code change} event with the enabled and disabled keys every time the
+ * evaluator swaps in a snapshot that affects that environment. Every node pushes to its own
+ * subscribers, since every node's evaluator reloads on toggle changes.
+ * <p>
+ * Every subscriber has its own bounded queue, drained in order on a virtual thread, so a slow client
+ * only ever holds up itself. A client that falls more than {@link #MAX_PENDING_EVENTS} events behind,
+ * or whose send has been blocked for longer than {@link #SEND_TIMEOUT}, is dropped; it reconnects and
+ * gets a fresh snapshot. Environments without subscribers are removed, so arbitrary environment codes
+ * leave nothing behind.
+ */
+@Slf4j
+@Service
+public class ToggleStreamService {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String CHANGE_EVENT = "change";
+
+    // Clients reconnect on timeout and get a fresh snapshot.
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_PENDING_EVENTS = 100;
+
+    private final ToggleEvaluator toggleEvaluator;
+    private final Map<String, Set<Subscriber>> subscribersByEnvironment = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ToggleStream-", 0).factory());
+
+    public ToggleStreamService(ToggleEvaluator toggleEvaluator) {
+        this.toggleEvaluator = toggleEvaluator;
+    }
+
+    public SseEmitter subscribe(String environmentCode) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        Subscriber subscriber = new Subscriber(environmentCode, emitter);
+        subscribersByEnvironment.compute(environmentCode, (_, subscribers) -> {
+            Set<Subscriber> registered = subscribers != null ? subscribers : new CopyOnWriteArraySet<>();
+            registered.add(subscriber);
+            return registered;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(_ -> subscriber.close());
+
+        // Read after registering, so a change swapped in from now on is queued behind the snapshot; one
+        // that is already part of the snapshot may arrive again, which is harmless.
+        try {
+            subscriber.start(SseEmitter.event()
+                    .name(SNAPSHOT_EVENT)
+                    .data(toggleEvaluator.findEnabledToggleKeys(environmentCode)));
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onToggleStateChanged(ToggleStateChangedEvent event) {
+        for (ToggleEnvironmentChangeDto change : event.changes()) {
+            Set<Subscriber> subscribers = subscribersByEnvironment.get(change.environmentCode());
+            if (subscribers != null) {
+                subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().name(CHANGE_EVENT).data(change)));
+            }
+        }
+    }
+
+    // Keeps idle connections open through proxies and drops clients that went away or stopped reading.
+    @Scheduled(fixedDelayString = "PT25S")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        subscribersByEnvironment.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                subscriber.drop("send blocked for more than " + SEND_TIMEOUT);
+            } else {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribersByEnvironment.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // --- Private Helper Methods ---
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByEnvironment.computeIfPresent(subscriber.environmentCode, (_, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * One connected client. Events are queued without blocking and sent one at a time by a drain task,
+     * of which at most one runs per subscriber.
+     */
+    private final class Subscriber {
+
+        private final String environmentCode;
+        private final SseEmitter emitter;
+        private final BlockingDeque<SseEmitter.SseEventBuilder> pending = new LinkedBlockingDeque<>(MAX_PENDING_EVENTS);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Nothing is sent before the snapshot is at the head of the queue.
+        private volatile boolean started;
+        private volatile boolean closed;
+        // System.nanoTime() when the send in progress started, 0 while idle.
+        private volatile long sendStartedAt;
+
+        private Subscriber(String environmentCode, SseEmitter emitter) {
+            this.environmentCode = environmentCode;
+            this.emitter = emitter;
+        }
+
+        void start(SseEmitter.SseEventBuilder snapshot) {
+            if (!pending.offerFirst(snapshot)) {
+                drop("too many pending events");
+                return;
+            }
+            started = true;
+            scheduleDrain();
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                drop("more than " + MAX_PENDING_EVENTS + " pending events");
+                return;
+            }
+            if (started) {
+                scheduleDrain();
+            }
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > SEND_TIMEOUT.toNanos();
+        }
+
+        // Completing may wait for the blocked send, so it happens off the caller's thread.
+        void drop(String reason) {
+            if (closed) {
+                return;
+            }
+            log.debug("Dropping toggle stream subscriber of '{}': {}", environmentCode, reason);
+            close();
+            try {
+                sender.execute(() -> emitter.completeWithError(new IOException(reason)));
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the emitter is completed by shutdown().
+            }
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            unregister(this);
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("Dropping toggle stream subscriber of '{}': {}", environmentCode, e.getMessage());
+                        close();
+                        emitter.completeWithError(e);
+                        return;
+                    } finally {
+                        sendStartedAt = 0;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before the flag was cleared found a drain running.
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package toolyverse.io.toolyverse.infrastructure.config.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts "region changed" signals to every node over Redis pub/sub.
+ * <p>
+ * Node-local state (in-process cache tiers, in-memory indexes) subscribes by region name and drops
+ * its copy when another node announces a change. Messages published by this node are ignored on
+ * receipt, because the publisher is expected to have already updated its own state.
+ * Pub/sub is fire-and-forget, so subscribers must still bound their staleness (e.g. with a TTL).
+ * <p>
+ * A signal may carry a key naming the changed entry, for subscribers that can update just that entry
+ * instead of dropping the whole region.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final char SEPARATOR = '|';
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public void subscribe(String region, Runnable onInvalidate) {
+        subscribeWithKey(region, _ -> onInvalidate.run());
+    }
+
+    /**
+     * Like {@link #subscribe(String, Runnable)}, but the handler receives the key the publisher passed
+     * to {@link #publish(String, String)}, or null for a region-wide signal.
+     */
+    public void subscribeWithKey(String region, Consumer<String> onInvalidate) {
+        subscribers.computeIfAbsent(region, _ -> new CopyOnWriteArrayList<>()).add(onInvalidate);
+    }
+
+    public void publish(String region) {
+        send(region, nodeId + SEPARATOR + region);
+    }
+
+    public void publish(String region, String key) {
+        send(region, nodeId + SEPARATOR + region + SEPARATOR + key);
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+        if (separatorIndex < 0 || nodeId.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+
+        int keyIndex = body.indexOf(SEPARATOR, separatorIndex + 1);
+        String region = keyIndex < 0 ? body.substring(separatorIndex + 1) : body.substring(separatorIndex + 1, keyIndex);
+        String key = keyIndex < 0 ? null : body.substring(keyIndex + 1);
+        List<Consumer<String>> handlers = subscribers.get(region);
+        if (handlers == null) {
+            return;
+        }
+
+        log.debug("Received invalidation for region '{}'", region);
+        for (Consumer<String> handler : handlers) {
+            try {
+                handler.accept(key);
+            } catch (Exception e) {
+                log.error("Invalidation handler for region '{}' failed", region, e);
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void send(String region, String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // Other nodes fall back to their local TTL; the write itself must not fail because of this.
+            log.warn("Failed to publish invalidation for region '{}': {}", region, e.getMessage());
+        }
+    }
+}
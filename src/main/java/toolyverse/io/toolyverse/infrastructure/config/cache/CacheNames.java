@@ -15,6 +15,7 @@ public class CacheNames {
     public static final String CACHE_USER_INFO = "user_info";
     public static final String CACHE_USER_PHOTO = "user_photo";
     public static final String CACHE_ALL_LOOKUPS = "all_lookups";
+    public static final String CACHE_LOOKUP_COUNTS = "lookup_counts";
 
     public static List<String> getAllCacheNames() {
         return Arrays.asList(
@@ -12,6 +12,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -31,6 +32,7 @@ public class RedisCacheConfig {
     public static final String REDIS_CACHE_MANAGER_FIVE_MINUTES = "redisFiveMinutesCacheManager";
     public static final String REDIS_CACHE_MANAGER_TEN_MINUTES = "redisTenMinutesCacheManager";
     public static final String REDIS_CACHE_MANAGER_THIRTY_MINUTES = "redisThirtyMinutesCacheManager";
+    public static final String TWO_TIER_CACHE_MANAGER_FIVE_MINUTES = "twoTierFiveMinutesCacheManager";
 
 
     private final ObjectMapper objectMapper;
@@ -80,6 +82,20 @@ public class RedisCacheConfig {
         return buildRedisCacheManager(connectionFactory, Duration.ofMinutes(30));
     }
 
+    @Bean(TWO_TIER_CACHE_MANAGER_FIVE_MINUTES)
+    public CacheManager twoTierFiveMinutesCacheManager(RedisConnectionFactory connectionFactory,
+                                                       CacheInvalidationBus cacheInvalidationBus) {
+        log.info("Creating 5-minutes two-tier (in-process + Redis) cache manager with TTL: {}", Duration.ofMinutes(5));
+        return new TwoTierCacheManager(redisFiveMinutesCacheManager(connectionFactory), cacheInvalidationBus, Duration.ofMinutes(5));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     private CacheManager buildRedisCacheManager(RedisConnectionFactory connectionFactory, Duration ttl) {
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
 
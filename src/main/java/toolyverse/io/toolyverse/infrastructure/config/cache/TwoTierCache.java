@@ -0,0 +1,155 @@
+package toolyverse.io.toolyverse.infrastructure.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Cache} that keeps already deserialized values in process memory (L1) in front of a Redis cache (L2).
+ * <p>
+ * Reads are served from L1 while the entry is younger than the local TTL. Every write on this node updates
+ * both tiers and announces the region on the {@link CacheInvalidationBus}, so other nodes drop their L1 copy
+ * and reload it from Redis on the next read.
+ * <p>
+ * Values held in L1 are shared between callers and must be treated as read-only.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final long localTtlNanos;
+    private final ConcurrentMap<Object, LocalEntry> localEntries = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so that a slow L2 read cannot resurrect an entry dropped meanwhile.
+    private volatile long generation;
+
+    public TwoTierCache(Cache remoteCache, CacheInvalidationBus invalidationBus, Duration localTtl) {
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.localTtlNanos = localTtl.toNanos();
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        LocalEntry localEntry = localEntries.get(key);
+        if (localEntry != null && !localEntry.isExpired()) {
+            return localEntry.value();
+        }
+
+        long observedGeneration = generation;
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null) {
+            storeLocally(key, remoteValue, observedGeneration);
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        long observedGeneration = generation;
+        T value = remoteCache.get(key, valueLoader);
+        storeLocally(key, new SimpleValueWrapper(value), observedGeneration);
+        return value;
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        remoteCache.put(key, value);
+        localEntries.put(key, new LocalEntry(new SimpleValueWrapper(value), System.nanoTime() + localTtlNanos));
+        invalidationBus.publish(getName());
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remoteCache.evict(key);
+        localEntries.remove(key);
+        invalidationBus.publish(getName());
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        localEntries.remove(key);
+        invalidationBus.publish(getName());
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        invalidateLocal();
+        invalidationBus.publish(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        invalidateLocal();
+        invalidationBus.publish(getName());
+        return invalidated;
+    }
+
+    /**
+     * Reads straight from Redis, skipping a possibly stale in-process copy. For read-modify-write
+     * updates that must start from the shared state; the value is not stored in L1.
+     */
+    public ValueWrapper getRemote(@NonNull Object key) {
+        return remoteCache.get(key);
+    }
+
+    /**
+     * Drops the in-process tier only. Called when another node announced a change to this region.
+     */
+    public void invalidateLocal() {
+        generation++;
+        localEntries.clear();
+    }
+
+    private void storeLocally(Object key, ValueWrapper value, long observedGeneration) {
+        localEntries.put(key, new LocalEntry(value, System.nanoTime() + localTtlNanos));
+        if (observedGeneration != generation) {
+            localEntries.remove(key);
+        }
+    }
+
+    private record LocalEntry(ValueWrapper value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
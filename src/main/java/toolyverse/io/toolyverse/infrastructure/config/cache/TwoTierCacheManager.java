@@ -0,0 +1,46 @@
+package toolyverse.io.toolyverse.infrastructure.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps a Redis {@link CacheManager} and hands out {@link TwoTierCache} instances for its caches.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final Duration localTtl;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, CacheInvalidationBus invalidationBus, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remoteCacheManager.getCache(cacheName);
+            if (remoteCache == null) {
+                return null;
+            }
+            TwoTierCache cache = new TwoTierCache(remoteCache, invalidationBus, localTtl);
+            invalidationBus.subscribe(cacheName, cache::invalidateLocal);
+            return cache;
+        });
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+}
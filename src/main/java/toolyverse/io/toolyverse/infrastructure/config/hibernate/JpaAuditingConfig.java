@@ -4,13 +4,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import toolyverse.io.toolyverse.domain.shared.repository.BaseJpaRepositoryImpl;
 
 import java.util.Optional;
 
 @Configuration
 @EnableJpaAuditing
+@EnableJpaRepositories(basePackages = "toolyverse.io.toolyverse.domain", repositoryBaseClass = BaseJpaRepositoryImpl.class)
 public class JpaAuditingConfig {
 
     @Bean
@@ -9,6 +9,8 @@ public enum ExceptionMessage {
     ALREADY_EXISTS_EXCEPTION("messages.error.already_exists_exception", HttpStatus.CONFLICT, 1001),
     NOT_FOUND_EXCEPTION("messages.error.not_found_exception", HttpStatus.NOT_FOUND, 1002),
     PRODUCT_NOT_FOUND_EXCEPTION("messages.error.product_not_found_exception", HttpStatus.NOT_FOUND, 1002),
+    INVALID_CURSOR_EXCEPTION("messages.error.invalid_cursor_exception", HttpStatus.BAD_REQUEST, 1003),
+    JOB_NOT_RESTARTABLE_EXCEPTION("messages.error.job_not_restartable_exception", HttpStatus.CONFLICT, 1004),
     ;
 
     private final String key;
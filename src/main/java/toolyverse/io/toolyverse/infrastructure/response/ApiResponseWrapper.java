@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import toolyverse.io.toolyverse.infrastructure.config.message.MessageUtil;
 
 import java.util.Map;
@@ -62,18 +63,37 @@ public class ApiResponseWrapper<T> {
     }
 
     public static <U> ApiResponseWrapper<PageableResponse<U>> success(Page<U> page, String messageKey) {
-        PageableResponse.PageDetails pageDetails = PageableResponse.PageDetails.builder()
-                .totalElements(page.getTotalElements())
-                .numberOfElements(page.getNumberOfElements())
-                .totalPages(page.getTotalPages())
-                .last(page.isLast())
-                .first(page.isFirst())
-                .empty(page.isEmpty())
-                .build();
+        return success((Slice<U>) page, messageKey);
+    }
+
+    public static <U> ApiResponseWrapper<PageableResponse<U>> success(Slice<U> slice) {
+        return success(slice, DEFAULT_SUCCESS_KEY);
+    }
+
+    public static <U> ApiResponseWrapper<PageableResponse<U>> successWithApproximateTotal(Slice<U> slice, Long approximateTotal) {
+        ApiResponseWrapper<PageableResponse<U>> response = success(slice, DEFAULT_SUCCESS_KEY);
+        response.getData().getPageable().setApproximateTotalElements(approximateTotal);
+        return response;
+    }
+
+    public static <U> ApiResponseWrapper<PageableResponse<U>> success(Slice<U> slice, String messageKey) {
+        PageableResponse.PageDetails.PageDetailsBuilder pageDetails = PageableResponse.PageDetails.builder()
+                .numberOfElements(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .last(slice.isLast())
+                .first(slice.isFirst())
+                .empty(slice.isEmpty());
+
+        if (slice instanceof Page<U> page) {
+            pageDetails.totalElements(page.getTotalElements()).totalPages(page.getTotalPages());
+        }
+        if (slice instanceof CursorSlice<U> cursorSlice) {
+            pageDetails.nextCursor(cursorSlice.getNextCursor());
+        }
 
         PageableResponse<U> pageableResponse = PageableResponse.<U>builder()
-                .content(page.getContent())
-                .pageable(pageDetails)
+                .content(slice.getContent())
+                .pageable(pageDetails.build())
                 .build();
 
         return ApiResponseWrapper.<PageableResponse<U>>builder()
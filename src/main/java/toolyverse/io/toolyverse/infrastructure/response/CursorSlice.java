@@ -0,0 +1,36 @@
+package toolyverse.io.toolyverse.infrastructure.response;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice produced by keyset pagination. Carries the opaque cursor of its last row, if more rows follow.
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+    private final boolean previous;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor, boolean previous) {
+        super(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
+        this.previous = previous;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previous;
+    }
+
+    @Override
+    @NonNull
+    public <U> CursorSlice<U> map(@NonNull Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getConvertedContent(converter), getPageable(), hasNext(), nextCursor, previous);
+    }
+}
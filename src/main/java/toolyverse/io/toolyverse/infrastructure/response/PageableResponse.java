@@ -1,5 +1,6 @@
 package toolyverse.io.toolyverse.infrastructure.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
@@ -19,16 +20,26 @@ public class PageableResponse<T> {
 
     @Data
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Schema(description = "Contains metadata about the paginated result set.")
     public static class PageDetails {
-        @Schema(description = "Total number of items across all pages.", example = "150")
-        private long totalElements;
+        @Schema(description = "Total number of items across all pages. Omitted in cursor mode.", example = "150")
+        private Long totalElements;
 
         @Schema(description = "Number of items on the current page.", example = "30")
         private int numberOfElements;
 
-        @Schema(description = "Total number of pages available.", example = "5")
-        private int totalPages;
+        @Schema(description = "Total number of pages available. Omitted in cursor mode.", example = "5")
+        private Integer totalPages;
+
+        @Schema(description = "Cached total number of items, possibly slightly stale (slice mode, on request).", example = "150")
+        private Long approximateTotalElements;
+
+        @Schema(description = "Indicates if more items follow this page.", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "Cursor to pass as 'after' to fetch the next page (cursor mode only).")
+        private String nextCursor;
 
         @Schema(description = "Indicates if this is the last page.", example = "false")
         private boolean last;
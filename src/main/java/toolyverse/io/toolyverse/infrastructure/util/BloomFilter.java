@@ -0,0 +1,82 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings. {@link #mightContain} never returns false for a key that was
+ * {@link #put}; it returns true for an absent key with roughly the configured probability, which rises
+ * if more keys than expected are added.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(hash1 + i * hash2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with a SplitMix64 mix for better bit dispersion.
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,71 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Strong ETags derived from the content actually served: a 64-bit FNV-1a hash of the value's JSON, with
+ * map entries ordered by key so equal content hashes equally on every node.
+ * <p>
+ * Cached values are shared immutable instances, so the last hash per {@code name} is kept together with
+ * the instance it was computed for and reused while the same instance is served again.
+ */
+@Component
+public class ContentETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ObjectWriter writer;
+    private final Map<String, Memo> memos = new ConcurrentHashMap<>();
+
+    public ContentETags(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Quoted ETag for {@code value}; {@code name} identifies the endpoint (and variant) serving it.
+     */
+    public String of(String name, Object value) {
+        Memo memo = memos.get(name);
+        if (memo != null && memo.value() == value) {
+            return memo.eTag();
+        }
+
+        String eTag = compute(value);
+        memos.put(name, new Memo(value, eTag));
+        return eTag;
+    }
+
+    /**
+     * Quoted ETag for {@code value}, without memoizing; for callers that keep it next to the value.
+     */
+    public String compute(Object value) {
+        return "\"" + Long.toHexString(hash(value)) + "\"";
+    }
+
+    // --- Private Helper Methods ---
+
+    private long hash(Object value) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize value for its ETag", e);
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : json) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record Memo(Object value, String eTag) {
+    }
+}
@@ -0,0 +1,95 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import toolyverse.io.toolyverse.domain.shared.enumeration.ExportFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes export rows one at a time to a response stream, as NDJSON (one JSON object per line) or CSV
+ * (RFC 4180 quoting). Nothing is retained between rows. Closing flushes but leaves the target stream
+ * open for the container to finish.
+ */
+public final class ExportStreamWriter<T> implements Closeable {
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final JsonGenerator jsonGenerator;
+    private final Function<T, List<?>> csvColumns;
+
+    private ExportStreamWriter(ExportFormat format, Writer writer, JsonGenerator jsonGenerator,
+                               Function<T, List<?>> csvColumns) {
+        this.format = format;
+        this.writer = writer;
+        this.jsonGenerator = jsonGenerator;
+        this.csvColumns = csvColumns;
+    }
+
+    /**
+     * @param csvHeader  column names, written first in CSV mode
+     * @param csvColumns extracts the column values of a row in CSV mode; NDJSON serializes the row itself
+     */
+    public static <T> ExportStreamWriter<T> open(ExportFormat format, OutputStream outputStream, ObjectMapper objectMapper,
+                                                 List<String> csvHeader, Function<T, List<?>> csvColumns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.NDJSON) {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            return new ExportStreamWriter<>(format, writer, generator, csvColumns);
+        }
+
+        ExportStreamWriter<T> exportWriter = new ExportStreamWriter<>(format, writer, null, csvColumns);
+        exportWriter.writeCsvLine(csvHeader);
+        return exportWriter;
+    }
+
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            jsonGenerator.writeObject(row);
+            jsonGenerator.writeRaw('\n');
+        } else {
+            writeCsvLine(csvColumns.apply(row));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.close();
+        }
+        writer.flush();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void writeCsvLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean needsQuoting = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
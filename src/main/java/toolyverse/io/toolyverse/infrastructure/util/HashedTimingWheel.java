@@ -0,0 +1,166 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel: schedules many one-shot tasks with O(1) insertion and cancellation, at the
+ * price of firing up to one tick late.
+ * <p>
+ * A single daemon thread advances the wheel once per tick and hands due tasks to the given executor,
+ * so a slow task never delays the wheel. Tasks further out than one revolution wait in their bucket
+ * for the remaining number of rounds. Deadlines in the past fire on the next tick.
+ */
+public final class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Task>[] buckets;
+    private final Queue<Task> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean closed;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Executor executor) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+
+    /**
+     * Runs {@code task} on the executor once {@code deadline} has passed.
+     */
+    public Timeout schedule(Instant deadline, Runnable task) {
+        if (closed) {
+            throw new IllegalStateException("Timing wheel is closed");
+        }
+        long delayNanos = Math.max(0, Duration.between(Instant.now(), deadline).toNanos());
+        Task scheduled = new Task(System.nanoTime() - startNanos + delayNanos, task);
+        pendingTasks.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void run() {
+        long tick = 0;
+        while (!closed) {
+            long sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                if (Thread.interrupted() && closed) {
+                    return;
+                }
+                continue;
+            }
+            transferPendingTasks(tick);
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPendingTasks(long tick) {
+        Task task;
+        while ((task = pendingTasks.poll()) != null) {
+            if (task.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = task.deadlineNanos / tickNanos;
+            task.remainingRounds = (deadlineTick - tick) / buckets.length;
+            // Overdue tasks go into the current bucket and fire on this tick.
+            buckets[(int) (Math.max(deadlineTick, tick) & mask)].add(task);
+        }
+    }
+
+    private void expire(List<Task> bucket) {
+        Iterator<Task> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            if (task.isCancelled()) {
+                iterator.remove();
+            } else if (task.remainingRounds <= 0) {
+                iterator.remove();
+                if (task.fired.compareAndSet(false, true)) {
+                    dispatch(task.task);
+                }
+            } else {
+                task.remainingRounds--;
+            }
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RuntimeException rejected) {
+            // A saturated executor must not kill the wheel; run the task on the wheel thread instead.
+            try {
+                task.run();
+            } catch (RuntimeException ignored) {
+                // The task is responsible for reporting its own failures.
+            }
+        }
+    }
+
+    public interface Timeout {
+
+        /**
+         * Cancels the task unless it already fired; returns whether it was cancelled by this call.
+         */
+        boolean cancel();
+    }
+
+    private static final class Task implements Timeout {
+
+        private final long deadlineNanos;
+        private final Runnable task;
+        private final AtomicBoolean fired = new AtomicBoolean();
+        private volatile boolean cancelled;
+        // Only touched by the worker thread.
+        private long remainingRounds;
+
+        private Task(long deadlineNanos, Runnable task) {
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (fired.compareAndSet(false, true)) {
+                cancelled = true;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import toolyverse.io.toolyverse.domain.shared.entity.Translations;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps a JSON column to {@link Translations} without polymorphic type metadata.
+ * <p>
+ * Writes a plain JSON object. Reads both that and the {@code ["java.util.HashMap", {...}]} form
+ * written by {@link JsonConverter}. Identical column payloads resolve to one shared instance, so a
+ * page of lookups with the same translations does not parse them over and over.
+ */
+@Converter
+public class TranslationsConverter implements AttributeConverter<Translations, String> {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Interned instances keyed by raw column text; cleared wholesale once full.
+    private static final int MAX_INTERNED = 10_000;
+    private static final Map<String, Translations> interned = new ConcurrentHashMap<>();
+
+    @Override
+    public String convertToDatabaseColumn(Translations attribute) {
+        try {
+            return attribute == null ? null : objectMapper.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting translations to JSON", e);
+        }
+    }
+
+    @Override
+    public Translations convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return Translations.EMPTY;
+        }
+        Translations cached = interned.get(dbData);
+        if (cached != null) {
+            return cached;
+        }
+
+        Translations parsed = parse(dbData);
+        if (interned.size() >= MAX_INTERNED) {
+            interned.clear();
+        }
+        Translations existing = interned.putIfAbsent(dbData, parsed);
+        return existing != null ? existing : parsed;
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Translations parse(String dbData) {
+        JsonNode root;
+        try {
+            root = unwrapTyped(objectMapper.readTree(dbData));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting JSON to translations", e);
+        }
+        if (!root.isObject()) {
+            return Translations.EMPTY;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = unwrapTyped(field.getValue());
+            if (!value.isNull()) {
+                values.put(field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+            }
+        }
+        return Translations.of(values);
+    }
+
+    // Legacy default typing wraps non-final values as [className, value].
+    private static JsonNode unwrapTyped(JsonNode node) {
+        if (node.isArray() && node.size() == 2 && node.get(0).isTextual()) {
+            return node.get(1);
+        }
+        return node;
+    }
+}
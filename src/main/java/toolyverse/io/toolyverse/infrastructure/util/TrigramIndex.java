@@ -0,0 +1,89 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import java.util.*;
+
+/**
+ * Immutable trigram index over normalized search keys, answering "key contains" queries in memory.
+ * <p>
+ * Each key is split into overlapping three-character grams. A query probes the posting list of its
+ * rarest gram and verifies every candidate against the stored key, so results are exact. Queries
+ * shorter than three characters cannot be answered and return empty, letting the caller fall back to
+ * a database scan.
+ *
+ * @param <I> identifier type of the indexed rows
+ */
+public final class TrigramIndex<I> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<I, String> keysById;
+    private final Map<String, List<I>> postings;
+
+    private TrigramIndex(Map<I, String> keysById, Map<String, List<I>> postings) {
+        this.keysById = keysById;
+        this.postings = postings;
+    }
+
+    /**
+     * Builds an index from already normalized keys. Entries with a null key are skipped.
+     */
+    public static <I> TrigramIndex<I> build(Map<I, String> keysById) {
+        Map<I, String> keys = new HashMap<>(keysById.size() * 2);
+        Map<String, List<I>> postings = new HashMap<>();
+
+        keysById.forEach((id, key) -> {
+            if (key == null) {
+                return;
+            }
+            keys.put(id, key);
+            for (String gram : grams(key)) {
+                postings.computeIfAbsent(gram, _ -> new ArrayList<>()).add(id);
+            }
+        });
+
+        Map<String, List<I>> frozen = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, ids) -> frozen.put(gram, List.copyOf(ids)));
+        return new TrigramIndex<>(Map.copyOf(keys), Map.copyOf(frozen));
+    }
+
+    /**
+     * Returns the ids whose key contains {@code normalizedQuery}, or empty if the query is too short
+     * for the index to answer.
+     */
+    public Optional<Set<I>> search(String normalizedQuery) {
+        if (normalizedQuery == null || normalizedQuery.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<I> rarest = null;
+        for (String gram : grams(normalizedQuery)) {
+            List<I> ids = postings.getOrDefault(gram, List.of());
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+            if (rarest.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+        }
+
+        Set<I> matches = new HashSet<>();
+        for (I id : rarest) {
+            if (keysById.get(id).contains(normalizedQuery)) {
+                matches.add(id);
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    private static Set<String> grams(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -1,6 +1,7 @@
 package toolyverse.io.toolyverse.infrastructure.util;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 public class TurkishCharConverter {
@@ -46,4 +47,15 @@ public class TurkishCharConverter {
         String converted = convertTurkishToEnglish(input);
         return converted.toLowerCase();
     }
+
+    /**
+     * Normalized form used for persisted search keys: Turkish letters folded to ASCII, then lowercased
+     * independently of the default locale (so 'I' never becomes dotless 'ı').
+     */
+    public static String toSearchKey(String input) {
+        if (input == null) {
+            return null;
+        }
+        return convertTurkishToEnglish(input).toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,121 @@
+package toolyverse.io.toolyverse.domain.shared.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks the shape of the keyset predicates: rows strictly after the cursor in {@code (sortBy, id)}
+ * order, with NULL sort keys ordering lowest. Also covers the LIKE fallback of the search predicate.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class BaseSpecificationTest {
+
+    private final Root<Object> root = mock(Root.class);
+    private final CriteriaQuery<?> query = mock(CriteriaQuery.class);
+    private final CriteriaBuilder cb = mock(CriteriaBuilder.class);
+    private final Path idPath = mock(Path.class);
+    private final Path sortPath = mock(Path.class);
+
+    private final Predicate idAfter = mock(Predicate.class, "idAfter");
+    private final Predicate idBefore = mock(Predicate.class, "idBefore");
+    private final Predicate sortIsNull = mock(Predicate.class, "sortIsNull");
+    private final Predicate sortIsNotNull = mock(Predicate.class, "sortIsNotNull");
+    private final Predicate result = mock(Predicate.class, "result");
+
+    @BeforeEach
+    void setUp() {
+        doReturn(idPath).when(root).get("id");
+        doReturn(sortPath).when(root).get("displayOrder");
+        doReturn(Long.class).when(idPath).getJavaType();
+        doReturn(Integer.class).when(sortPath).getJavaType();
+
+        when(cb.greaterThan(idPath, 7L)).thenReturn(idAfter);
+        when(cb.lessThan(idPath, 7L)).thenReturn(idBefore);
+        when(cb.isNull(sortPath)).thenReturn(sortIsNull);
+        when(cb.isNotNull(sortPath)).thenReturn(sortIsNotNull);
+    }
+
+    @Test
+    void noCursorMeansNoPredicate() {
+        assertThat(toPredicate("displayOrder", Sort.Direction.ASC, null)).isNull();
+    }
+
+    @Test
+    void sortingByIdSeeksOnTheIdAlone() {
+        KeysetCursor cursor = new KeysetCursor("id", Sort.Direction.ASC, "7", "7");
+
+        assertThat(toPredicate("id", Sort.Direction.ASC, cursor)).isSameAs(idAfter);
+        assertThat(toPredicate("id", Sort.Direction.DESC, cursor)).isSameAs(idBefore);
+    }
+
+    @Test
+    void ascendingFromANullKeyContinuesWithLaterNullsThenAllNonNullKeys() {
+        Predicate laterNull = mock(Predicate.class);
+        when(cb.and(sortIsNull, idAfter)).thenReturn(laterNull);
+        when(cb.or(laterNull, sortIsNotNull)).thenReturn(result);
+
+        assertThat(toPredicate("displayOrder", Sort.Direction.ASC, new KeysetCursor("displayOrder", Sort.Direction.ASC, "7", null)))
+                .isSameAs(result);
+    }
+
+    @Test
+    void descendingFromANullKeyOnlyContinuesWithEarlierNulls() {
+        when(cb.and(sortIsNull, idBefore)).thenReturn(result);
+
+        assertThat(toPredicate("displayOrder", Sort.Direction.DESC, new KeysetCursor("displayOrder", Sort.Direction.DESC, "7", null)))
+                .isSameAs(result);
+        verify(cb, never()).isNotNull(sortPath);
+    }
+
+    @Test
+    void ascendingFromANonNullKeyNeverReturnsToNulls() {
+        Predicate keyAfter = mock(Predicate.class);
+        Predicate sameKey = mock(Predicate.class);
+        Predicate keyEqual = mock(Predicate.class);
+        when(cb.greaterThan(sortPath, 3)).thenReturn(keyAfter);
+        when(cb.equal(sortPath, 3)).thenReturn(keyEqual);
+        when(cb.and(keyEqual, idAfter)).thenReturn(sameKey);
+        when(cb.or(keyAfter, sameKey)).thenReturn(result);
+
+        assertThat(toPredicate("displayOrder", Sort.Direction.ASC, new KeysetCursor("displayOrder", Sort.Direction.ASC, "7", "3")))
+                .isSameAs(result);
+        verify(cb, never()).isNull(sortPath);
+    }
+
+    @Test
+    void descendingFromANonNullKeyEndsWithTheNulls() {
+        Predicate keyBefore = mock(Predicate.class);
+        Predicate sameKey = mock(Predicate.class);
+        Predicate keyEqual = mock(Predicate.class);
+        when(cb.lessThan(sortPath, 3)).thenReturn(keyBefore);
+        when(cb.equal(sortPath, 3)).thenReturn(keyEqual);
+        when(cb.and(keyEqual, idBefore)).thenReturn(sameKey);
+        when(cb.or(keyBefore, sameKey, sortIsNull)).thenReturn(result);
+
+        assertThat(toPredicate("displayOrder", Sort.Direction.DESC, new KeysetCursor("displayOrder", Sort.Direction.DESC, "7", "3")))
+                .isSameAs(result);
+    }
+
+    @Test
+    void searchWithoutAnIndexFallsBackToALikeWithEscapedWildcards() {
+        Path searchCodePath = mock(Path.class);
+        doReturn(searchCodePath).when(root).get("searchCode");
+        when(cb.like(searchCodePath, "%50\\%\\_off%", '\\')).thenReturn(result);
+
+        assertThat(BaseSpecification.searchKeyContains("searchCode", "50%_OFF", null).toPredicate(root, query, cb))
+                .isSameAs(result);
+    }
+
+    private Predicate toPredicate(String sortBy, Sort.Direction direction, KeysetCursor cursor) {
+        return BaseSpecification.seekAfter(sortBy, direction, cursor).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,101 @@
+package toolyverse.io.toolyverse.domain.shared.repository.specification;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.data.domain.Sort;
+import toolyverse.io.toolyverse.domain.lookup.model.dto.LookupDto;
+import toolyverse.io.toolyverse.infrastructure.config.message.MessageUtil;
+import toolyverse.io.toolyverse.infrastructure.exception.BusinessException;
+import toolyverse.io.toolyverse.infrastructure.exception.ExceptionMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @BeforeAll
+    static void initMessages() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        new MessageUtil(messageSource);
+    }
+
+    @Test
+    void roundTripsThroughTheEncodedForm() {
+        KeysetCursor cursor = new KeysetCursor("code", Sort.Direction.ASC, "42", "ACTIVE_STATUS");
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "code", Sort.Direction.ASC);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsSortValuesContainingTheSeparator() {
+        KeysetCursor cursor = new KeysetCursor("description", Sort.Direction.DESC, "7", "first line\nsecond line");
+
+        assertThat(KeysetCursor.decode(cursor.encode(), "description", Sort.Direction.DESC)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsANullSortValue() {
+        KeysetCursor cursor = new KeysetCursor("displayOrder", Sort.Direction.ASC, "3", null);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "displayOrder", Sort.Direction.ASC);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.sortValue()).isNull();
+    }
+
+    @Test
+    void readsIdAndSortValueFromTheRow() {
+        LookupDto row = new LookupDto();
+        row.setId(5L);
+        row.setDisplayOrder(null);
+
+        KeysetCursor cursor = KeysetCursor.of("displayOrder", Sort.Direction.DESC, row);
+
+        assertThat(cursor).isEqualTo(new KeysetCursor("displayOrder", Sort.Direction.DESC, "5", null));
+    }
+
+    @Test
+    void returnsNullWhenNoCursorWasSent() {
+        assertThat(KeysetCursor.decode(null, "id", Sort.Direction.ASC)).isNull();
+        assertThat(KeysetCursor.decode(" ", "id", Sort.Direction.ASC)).isNull();
+    }
+
+    @Test
+    void rejectsACursorBuiltForAnotherSort() {
+        String encoded = new KeysetCursor("code", Sort.Direction.ASC, "42", "ACTIVE_STATUS").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded, "displayOrder", Sort.Direction.ASC))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getBusinessErrorCode())
+                        .isEqualTo(ExceptionMessage.INVALID_CURSOR_EXCEPTION.getBusinessErrorCode()));
+    }
+
+    @Test
+    void rejectsACursorBuiltForTheOppositeDirection() {
+        String encoded = new KeysetCursor("code", Sort.Direction.ASC, "42", "ACTIVE_STATUS").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded, "code", Sort.Direction.DESC))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getBusinessErrorCode())
+                        .isEqualTo(ExceptionMessage.INVALID_CURSOR_EXCEPTION.getBusinessErrorCode()));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String withoutId = Base64.getUrlEncoder().encodeToString("code\nASC".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!", "code", Sort.Direction.ASC)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(withoutId, "code", Sort.Direction.ASC)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsSortValuesOfTheWrongType() {
+        assertThatThrownBy(() -> KeysetCursor.parseKey("abc", Integer.class)).isInstanceOf(BusinessException.class);
+        assertThat(KeysetCursor.parseKey("12", Integer.class)).isEqualTo(12);
+    }
+}
@@ -0,0 +1,94 @@
+package toolyverse.io.toolyverse.domain.toggle.event.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedMessage;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleTopicConfig;
+import toolyverse.io.toolyverse.domain.toggle.service.ToggleEvaluator;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class ToggleChangeConsumerTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition(ToggleTopicConfig.TOGGLE_CHANGES_TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(ToggleTopicConfig.TOGGLE_CHANGES_TOPIC, 1);
+
+    private final ToggleEvaluator toggleEvaluator = mock(ToggleEvaluator.class);
+    private final ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+    private final Consumer<Object, Object> offsetConsumer = mock(Consumer.class);
+    private final Consumer<Object, Object> listenerConsumer = mock(Consumer.class);
+    private final ToggleChangeConsumer toggleChangeConsumer = new ToggleChangeConsumer(toggleEvaluator, consumerFactory);
+
+    @Test
+    void marksCaughtUpOnAssignmentWhenThereIsNothingToReplay() {
+        assign(Map.of(PARTITION_0, 3L, PARTITION_1, 0L), Map.of(PARTITION_0, 3L, PARTITION_1, 0L));
+
+        verify(toggleEvaluator).markCaughtUp();
+        verify(offsetConsumer).close();
+    }
+
+    @Test
+    void marksCaughtUpOnceEveryPartitionReachedItsEndOffset() {
+        assign(Map.of(PARTITION_0, 0L, PARTITION_1, 0L), Map.of(PARTITION_0, 2L, PARTITION_1, 1L));
+        verify(toggleEvaluator, never()).markCaughtUp();
+
+        when(listenerConsumer.position(PARTITION_0)).thenReturn(2L);
+        when(listenerConsumer.position(PARTITION_1)).thenReturn(0L);
+        toggleChangeConsumer.onToggleChanges(List.of(record(0, 0, "checkout", null), record(0, 1, "search", null)), listenerConsumer);
+        verify(toggleEvaluator, never()).markCaughtUp();
+
+        when(listenerConsumer.position(PARTITION_1)).thenReturn(1L);
+        toggleChangeConsumer.onToggleChanges(List.of(record(1, 0, "pricing", null)), listenerConsumer);
+        verify(toggleEvaluator).markCaughtUp();
+
+        // Later batches no longer look at positions or mark again.
+        toggleChangeConsumer.onToggleChanges(List.of(record(1, 1, "pricing", null)), listenerConsumer);
+        verify(toggleEvaluator, times(1)).markCaughtUp();
+    }
+
+    @Test
+    void appliesABatchInOffsetOrderWithTheLastRecordPerKeyWinning() {
+        assign(Map.of(PARTITION_0, 0L), Map.of(PARTITION_0, 0L));
+        ToggleChangedMessage enabled = new ToggleChangedMessage("checkout", true, List.of("prod"), 2_000);
+        ToggleChangedMessage disabled = new ToggleChangedMessage("checkout", false, List.of("prod"), 1_000);
+
+        toggleChangeConsumer.onToggleChanges(List.of(
+                record(0, 0, "checkout", enabled),
+                record(0, 1, "search", enabled),
+                record(0, 2, "checkout", disabled),
+                record(0, 3, "search", null)), listenerConsumer);
+
+        ArgumentCaptor<Map<String, ToggleChangedMessage>> changes = ArgumentCaptor.forClass(Map.class);
+        verify(toggleEvaluator).applyChanges(changes.capture());
+        Map<String, ToggleChangedMessage> expected = new HashMap<>();
+        expected.put("checkout", disabled);
+        expected.put("search", null);
+        assertThat(changes.getValue()).isEqualTo(expected);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void assign(Map<TopicPartition, Long> beginningOffsets, Map<TopicPartition, Long> endOffsets) {
+        when(consumerFactory.createConsumer()).thenReturn(offsetConsumer);
+        when(offsetConsumer.beginningOffsets(anyCollection())).thenReturn(beginningOffsets);
+        when(offsetConsumer.endOffsets(anyCollection())).thenReturn(endOffsets);
+
+        Map<TopicPartition, Long> assignments = new HashMap<>();
+        endOffsets.keySet().forEach(partition -> assignments.put(partition, 0L));
+        toggleChangeConsumer.onPartitionsAssigned(assignments, mock(ConsumerSeekAware.ConsumerSeekCallback.class));
+    }
+
+    private static ConsumerRecord<String, ToggleChangedMessage> record(int partition, long offset, String key,
+                                                                       ToggleChangedMessage value) {
+        return new ConsumerRecord<>(ToggleTopicConfig.TOGGLE_CHANGES_TOPIC, partition, offset, key, value);
+    }
+}
@@ -0,0 +1,60 @@
+package toolyverse.io.toolyverse.domain.toggle.report;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToggleEvaluationMetricsTest {
+
+    private static final ToggleEvaluationMetrics.CounterKey CHECKOUT_PROD = new ToggleEvaluationMetrics.CounterKey("checkout", "prod");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ToggleEvaluationMetrics metrics = new ToggleEvaluationMetrics(meterRegistry);
+
+    @Test
+    void removesTheMetersOfPairsThatLeftTheSnapshot() {
+        metrics.record("checkout", "prod", true);
+        metrics.record("search", "prod", false);
+
+        metrics.retainOnly(Set.of("search"), Set.of("prod"));
+
+        assertThat(meterRegistry.find(ToggleEvaluationMetrics.EVALUATIONS_METER).tag("toggle", "checkout").meters()).isEmpty();
+        assertThat(meterRegistry.find(ToggleEvaluationMetrics.EVALUATIONS_METER).tag("toggle", "search").meters()).hasSize(2);
+    }
+
+    @Test
+    void keepsRetiredCountsVisibleUntilTheyAreDropped() {
+        metrics.record("checkout", "prod", true);
+        metrics.retainOnly(Set.of(), Set.of());
+
+        assertThat(enabledCounts()).containsEntry(CHECKOUT_PROD, 1L);
+        assertThat(metrics.dropRetired(List.of(CHECKOUT_PROD))).containsExactly(CHECKOUT_PROD);
+        assertThat(enabledCounts()).isEmpty();
+    }
+
+    @Test
+    void aPairThatComesBackKeepsCountingOnItsRetiredCounters() {
+        metrics.record("checkout", "prod", true);
+        metrics.retainOnly(Set.of(), Set.of());
+
+        metrics.record("checkout", "prod", true);
+
+        assertThat(enabledCounts()).containsExactly(Map.entry(CHECKOUT_PROD, 2L));
+        assertThat(metrics.dropRetired(List.of(CHECKOUT_PROD))).isEmpty();
+        assertThat(meterRegistry.find(ToggleEvaluationMetrics.EVALUATIONS_METER).tag("toggle", "checkout").meters()).hasSize(2);
+    }
+
+    // --- Private Helper Methods ---
+
+    private Map<ToggleEvaluationMetrics.CounterKey, Long> enabledCounts() {
+        Map<ToggleEvaluationMetrics.CounterKey, Long> counts = new HashMap<>();
+        metrics.forEach((key, counters) -> counts.put(key, counters.enabled().sum()));
+        return counts;
+    }
+}
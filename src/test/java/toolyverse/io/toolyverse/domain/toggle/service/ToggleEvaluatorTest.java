@@ -0,0 +1,146 @@
+package toolyverse.io.toolyverse.domain.toggle.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import toolyverse.io.toolyverse.domain.toggle.enumeration.ToggleChangeType;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleChangedMessage;
+import toolyverse.io.toolyverse.domain.toggle.event.ToggleStateChangedEvent;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.EnvironmentDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleEnvironmentChangeDto;
+import toolyverse.io.toolyverse.domain.toggle.model.dto.ToggleWithEnvironmentsDto;
+import toolyverse.io.toolyverse.domain.toggle.report.ToggleEvaluationMetrics;
+import toolyverse.io.toolyverse.domain.toggle.repository.ToggleRepository;
+import toolyverse.io.toolyverse.domain.toggle.repository.projection.ToggleEnvironmentRow;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ToggleEvaluatorTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final ToggleRepository toggleRepository = mock(ToggleRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ToggleEvaluator evaluator = new ToggleEvaluator(toggleRepository, eventPublisher,
+            new ToggleEvaluationMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void servesTheDatabaseStateUntilTheReplayCaughtUp() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(row(1L, "checkout", true, "prod")));
+
+        evaluator.applyChanges(changes("checkout", message("checkout", false, 1, "prod")));
+        assertThat(evaluator.isEnabled("checkout", "prod")).isTrue();
+
+        evaluator.markCaughtUp();
+        assertThat(evaluator.isEnabled("checkout", "prod")).isFalse();
+    }
+
+    @Test
+    void appliesReplayedChangesOnTopOfTheDatabaseState() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(
+                row(1L, "checkout", true, "prod"),
+                row(2L, "search", true, "prod")));
+
+        evaluator.applyChanges(changes("search", null));
+        evaluator.markCaughtUp();
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isTrue();
+        assertThat(evaluator.findEnabledToggleKeys("prod")).containsExactly("checkout");
+        verify(toggleRepository, times(1)).findAllWithEnvironmentCodes();
+    }
+
+    @Test
+    void appliesTopicRecordsInOffsetOrderRegardlessOfVersion() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of());
+        evaluator.markCaughtUp();
+
+        // The second write was stamped by a node whose clock lags behind; it still wins.
+        evaluator.applyChanges(changes("checkout", message("checkout", true, 2_000, "prod")));
+        evaluator.applyChanges(changes("checkout", message("checkout", false, 1_000, "prod")));
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isFalse();
+    }
+
+    @Test
+    void ignoresALocalWriteOlderThanTheStateHeld() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of());
+        evaluator.markCaughtUp();
+
+        evaluator.onToggleChanged(event("checkout", true, UPDATED_AT, "prod"));
+        evaluator.onToggleChanged(event("checkout", false, UPDATED_AT.minusSeconds(1), "prod"));
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isTrue();
+    }
+
+    @Test
+    void removesADeletedToggle() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(row(1L, "checkout", true, "prod")));
+        evaluator.markCaughtUp();
+
+        evaluator.onToggleChanged(new ToggleChangedEvent(ToggleChangeType.DELETED, "checkout", null));
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isFalse();
+        assertThat(evaluator.evaluate("prod", null)).isEmpty();
+    }
+
+    @Test
+    void resyncReplacesMissedChangesWithTheDatabaseStateAndPublishesTheDifference() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(row(1L, "checkout", true, "prod")));
+        evaluator.markCaughtUp();
+
+        // A disable whose record never reached the topic.
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(row(1L, "checkout", false, "prod")));
+        evaluator.resync();
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isFalse();
+        ArgumentCaptor<ToggleStateChangedEvent> published = ArgumentCaptor.forClass(ToggleStateChangedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertThat(published.getValue().changes())
+                .containsExactly(new ToggleEnvironmentChangeDto("prod", List.of(), List.of("checkout")));
+    }
+
+    @Test
+    void keepsThePreviousSnapshotWhenTheResyncFails() {
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenReturn(List.of(row(1L, "checkout", true, "prod")));
+        evaluator.markCaughtUp();
+
+        when(toggleRepository.findAllWithEnvironmentCodes()).thenThrow(new IllegalStateException("database down"));
+        evaluator.resync();
+
+        assertThat(evaluator.isEnabled("checkout", "prod")).isTrue();
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Map<String, ToggleChangedMessage> changes(String toggleKey, ToggleChangedMessage message) {
+        Map<String, ToggleChangedMessage> changes = new HashMap<>();
+        changes.put(toggleKey, message);
+        return changes;
+    }
+
+    private static ToggleChangedMessage message(String toggleKey, boolean enabled, long version, String... environmentCodes) {
+        return new ToggleChangedMessage(toggleKey, enabled, List.of(environmentCodes), version);
+    }
+
+    private static ToggleEnvironmentRow row(Long toggleId, String toggleKey, boolean enabled, String environmentCode) {
+        return new ToggleEnvironmentRow(toggleId, toggleKey, enabled, null, UPDATED_AT, environmentCode);
+    }
+
+    private static ToggleChangedEvent event(String toggleKey, boolean enabled, LocalDateTime updatedAt, String environmentCode) {
+        ToggleWithEnvironmentsDto toggle = ToggleWithEnvironmentsDto.builder()
+                .toggleKey(toggleKey)
+                .isEnabled(enabled)
+                .updatedAt(updatedAt)
+                .environments(List.of(new EnvironmentDto(1L, environmentCode, null, true, 1)))
+                .build();
+        return new ToggleChangedEvent(ToggleChangeType.UPDATED, toggleKey, toggle);
+    }
+}
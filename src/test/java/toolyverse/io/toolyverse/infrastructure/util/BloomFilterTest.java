@@ -0,0 +1,76 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int KEYS = 10_000;
+    private static final int PROBES = 100_000;
+
+    @Test
+    void neverReportsAnAddedKeyAsAbsent() {
+        BloomFilter filter = BloomFilter.create(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("lookup-" + i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain("lookup-" + i)).as("lookup-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateNearTheTarget() {
+        for (double target : new double[]{0.01, 0.001}) {
+            BloomFilter filter = BloomFilter.create(KEYS, target);
+            for (int i = 0; i < KEYS; i++) {
+                filter.put("lookup-" + i);
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < PROBES; i++) {
+                if (filter.mightContain("absent-" + i)) {
+                    falsePositives++;
+                }
+            }
+            // Hashing is deterministic, so this is a fixed measurement rather than a flaky sample.
+            assertThat((double) falsePositives / PROBES).as("rate for target %s", target).isLessThan(target * 1.5);
+        }
+    }
+
+    @Test
+    void reportsAbsentKeysOfAnEmptyFilterAsAbsent() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("lookup-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentPutsDoNotLoseBits() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(KEYS, 0.01);
+        int threads = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                executor.execute(() -> {
+                    for (int i = offset; i < KEYS; i += threads) {
+                        filter.put("lookup-" + i);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain("lookup-" + i)).as("lookup-%d", i).isTrue();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    // 10 ms ticks and 4 buckets: one revolution is 40 ms, so short deadlines already span rounds.
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final int WHEEL_SIZE = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void firesATaskSeveralRoundsOutNoEarlierThanItsDeadline() throws Exception {
+        try (HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK, WHEEL_SIZE, executor)) {
+            Instant deadline = Instant.now().plusMillis(150);
+            CompletableFuture<Instant> firedAt = new CompletableFuture<>();
+
+            wheel.schedule(deadline, () -> firedAt.complete(Instant.now()));
+
+            Instant fired = firedAt.get(2, TimeUnit.SECONDS);
+            assertThat(fired).isAfterOrEqualTo(deadline);
+            assertThat(Duration.between(deadline, fired)).isLessThan(Duration.ofMillis(500));
+        }
+    }
+
+    @Test
+    void firesAnOverdueTaskOnTheNextTick() throws Exception {
+        try (HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK, WHEEL_SIZE, executor)) {
+            long scheduledAt = System.nanoTime();
+            CompletableFuture<Long> firedAt = new CompletableFuture<>();
+
+            wheel.schedule(Instant.now().minus(Duration.ofHours(1)), () -> firedAt.complete(System.nanoTime()));
+
+            assertThat(Duration.ofNanos(firedAt.get(2, TimeUnit.SECONDS) - scheduledAt)).isLessThan(Duration.ofMillis(500));
+        }
+    }
+
+    @Test
+    void doesNotFireACancelledTask() throws Exception {
+        try (HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK, WHEEL_SIZE, executor)) {
+            CountDownLatch fired = new CountDownLatch(1);
+
+            HashedTimingWheel.Timeout timeout = wheel.schedule(Instant.now().plusMillis(50), fired::countDown);
+
+            assertThat(timeout.cancel()).isTrue();
+            assertThat(timeout.cancel()).isFalse();
+            assertThat(fired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        }
+    }
+
+    @Test
+    void eachTaskIsEitherCancelledOrFiredWhenCancelRacesFire() throws Exception {
+        int tasks = 2_000;
+        AtomicIntegerArray runs = new AtomicIntegerArray(tasks);
+        boolean[] cancelled = new boolean[tasks];
+        HashedTimingWheel.Timeout[] timeouts = new HashedTimingWheel.Timeout[tasks];
+
+        try (HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK, WHEEL_SIZE, executor)) {
+            Instant deadline = Instant.now().plusMillis(30);
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                timeouts[i] = wheel.schedule(deadline, () -> runs.incrementAndGet(index));
+            }
+
+            // Cancel while the wheel is expiring the same bucket.
+            while (Instant.now().isBefore(deadline.plus(TICK))) {
+                Thread.onSpinWait();
+            }
+            int cancelledCount = 0;
+            for (int i = 0; i < tasks; i++) {
+                cancelled[i] = timeouts[i].cancel();
+                cancelledCount += cancelled[i] ? 1 : 0;
+            }
+
+            long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (sum(runs) < tasks - cancelledCount && System.nanoTime() < deadlineNanos) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+        }
+
+        for (int i = 0; i < tasks; i++) {
+            assertThat(runs.get(i)).as("runs of task %d", i).isEqualTo(cancelled[i] ? 0 : 1);
+        }
+    }
+
+    @Test
+    void runsTasksOnTheWheelThreadWhenTheExecutorRejectsThem() throws Exception {
+        Executor rejecting = _ -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        try (HashedTimingWheel wheel = new HashedTimingWheel("rejecting-wheel", TICK, WHEEL_SIZE, rejecting)) {
+            CompletableFuture<String> first = new CompletableFuture<>();
+            CompletableFuture<String> afterFailure = new CompletableFuture<>();
+
+            wheel.schedule(Instant.now(), () -> first.complete(Thread.currentThread().getName()));
+            wheel.schedule(Instant.now(), () -> {
+                throw new IllegalStateException("task failure");
+            });
+            wheel.schedule(Instant.now().plusMillis(50), () -> afterFailure.complete(Thread.currentThread().getName()));
+
+            assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("rejecting-wheel");
+            // A failing inline task must not kill the wheel thread.
+            assertThat(afterFailure.get(2, TimeUnit.SECONDS)).isEqualTo("rejecting-wheel");
+        }
+    }
+
+    @Test
+    void rejectsSchedulingOnceClosed() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK, WHEEL_SIZE, executor);
+        wheel.close();
+
+        assertThatThrownBy(() -> wheel.schedule(Instant.now(), () -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static int sum(AtomicIntegerArray values) {
+        int sum = 0;
+        for (int i = 0; i < values.length(); i++) {
+            sum += values.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package toolyverse.io.toolyverse.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    @Test
+    void queriesShorterThanAGramAreLeftToTheCaller() {
+        TrigramIndex<Long> index = TrigramIndex.build(Map.of(1L, "active", 2L, "passive"));
+
+        assertThat(index.search(null)).isEmpty();
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search("ac")).isEmpty();
+        assertThat(index.search("act")).hasValue(Set.of(1L));
+    }
+
+    @Test
+    void findsEveryKeyContainingTheQuery() {
+        TrigramIndex<Long> index = TrigramIndex.build(Map.of(
+                1L, "active_status",
+                2L, "inactive_status",
+                3L, "pending"));
+
+        assertThat(index.search("active")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.search("status")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.search("pend")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    void verifiesCandidatesOfTheRarestGramAgainstTheKey() {
+        // "abcxbcd" holds both grams of "abcd" ("abc" and "bcd"), but not the query itself.
+        TrigramIndex<Long> index = TrigramIndex.build(Map.of(1L, "abcxbcd", 2L, "xabcdx"));
+
+        assertThat(index.search("abcd")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+
+    @Test
+    void returnsEmptyMatchesWhenAGramIsUnknown() {
+        TrigramIndex<Long> index = TrigramIndex.build(Map.of(1L, "active"));
+
+        assertThat(index.search("actz")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void skipsNullKeys() {
+        Map<Long, String> keys = new HashMap<>();
+        keys.put(1L, "active");
+        keys.put(2L, null);
+
+        TrigramIndex<Long> index = TrigramIndex.build(keys);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("act")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    void matchesTurkishInputOnceBothSidesAreFolded() {
+        TrigramIndex<Long> index = TrigramIndex.build(Map.of(
+                1L, TurkishCharConverter.toSearchKey("ÇALIŞMA_DURUMU"),
+                2L, TurkishCharConverter.toSearchKey("İŞLEM_ONAYI"),
+                3L, TurkishCharConverter.toSearchKey("Gönderildi")));
+
+        assertThat(index.search(TurkishCharConverter.toSearchKey("çalış"))).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.search(TurkishCharConverter.toSearchKey("işlem"))).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.search(TurkishCharConverter.toSearchKey("ISLEM"))).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.search(TurkishCharConverter.toSearchKey("GÖNDER"))).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+}